@@ -0,0 +1,20 @@
+package org.jeffersonairplane.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs benchmarks with GC profiler, so allocation rate per operation is reported.
+ * Accepts usual JMH command line, for example {@code java -jar target/benchmarks.jar SnakeBenchmark -p board=1000}.
+ */
+public class BenchmarkMain {
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,97 @@
+package org.jeffersonairplane.benchmark;
+
+import org.jeffersonairplane.model.*;
+import org.jeffersonairplane.view.MapSize;
+import org.jeffersonairplane.viewmodel.Direction;
+
+/**
+ * Board and snake layouts shared by benchmarks.
+ * Snake is laid along the playing field border and keeps following it clockwise,
+ * so it moves forever without leaving the field or biting itself.
+ */
+final class Boards {
+
+	private Boards() {}
+
+	/**
+	 * Parses board parameter.
+	 * @param board is a {@link MapSize} name or a side length of a square board.
+	 * @return side length of a square board.
+	 */
+	static int side(String board) {
+		for(MapSize size: MapSize.values()) {
+			if(size.name().equals(board)) return size.getXAxisBlocks();
+		}
+		return Integer.parseInt(board);
+	}
+
+	/**
+	 * Length of a border path.
+	 * @param side of a square board.
+	 * @return amount of blocks along the border.
+	 */
+	static int perimeter(int side) {
+		return 4 * side - 4;
+	}
+
+	/**
+	 * Border block on a clockwise path from the lower left corner.
+	 * @param side of a square board.
+	 * @param index of block on the path.
+	 * @return packed cell of the block.
+	 */
+	static int borderCell(int side, int index) {
+		int i = index % perimeter(side);
+		if(i < side) return CellId.of(i + 1, 1);
+		i -= side - 1;
+		if(i < side) return CellId.of(side, i + 1);
+		i -= side - 1;
+		if(i < side) return CellId.of(side - i, side);
+		i -= side - 1;
+		return CellId.of(1, side - i);
+	}
+
+	/**
+	 * Creates a snake lying on the border, length is cut to fit the border path.
+	 * @param side of a square board.
+	 * @param length of snake.
+	 * @return snake heading along the border.
+	 */
+	static Snake borderSnake(int side, int length) {
+		Snake snake = new Snake();
+		layOnBorder(snake, side, length);
+		return snake;
+	}
+
+	/**
+	 * Replaces snake blocks with a snake lying on the border.
+	 * @param snake to lay.
+	 * @param side of a square board.
+	 * @param length of snake, cut to fit the border path.
+	 */
+	static void layOnBorder(Snake snake, int side, int length) {
+		int blocks = Math.max(Math.min(length, perimeter(side) - 1), 2);
+		snake.clear();
+		for(int i = 0; i < blocks; i++) {
+			snake.addHead(borderCell(side, i));
+		}
+		snake.setDirection(Direction.RIGHT);
+		snake.setDirection(clockwiseTurn(snake.headCell(), Direction.RIGHT, side));
+	}
+
+	/**
+	 * Chooses direction which keeps snake on the border.
+	 * @param head is a packed head cell.
+	 * @param direction is a current direction.
+	 * @param side of a square board.
+	 * @return direction to move.
+	 */
+	static Direction clockwiseTurn(int head, Direction direction, int side) {
+		int x = CellId.x(head), y = CellId.y(head);
+		if(x < side && y == 1) return Direction.RIGHT;
+		if(x == side && y < side) return Direction.UP;
+		if(x > 1 && y == side) return Direction.LEFT;
+		if(x == 1 && y > 1) return Direction.DOWN;
+		return direction;
+	}
+}
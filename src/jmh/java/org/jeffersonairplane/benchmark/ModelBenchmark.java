@@ -0,0 +1,102 @@
+package org.jeffersonairplane.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jeffersonairplane.model.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Power up placement, lookup and creation, and a full game frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+
+	@Param({"SMALL", "MEDIUM", "LARGE", "100", "1000"})
+	public String board;
+
+	@Param({"5", "100", "1000"})
+	public int snakeLength;
+
+	@Param({"1", "10", "100"})
+	public int powerUps;
+
+	private static final int QUERIES = 1024;
+
+	private int side;
+	private GameModelImpl model;
+	private PowerUpManager powerUpManager;
+	private final Coordinate[] queries = new Coordinate[QUERIES];
+	private int query;
+
+	@Setup
+	public void setUp() {
+		side = Boards.side(board);
+		SnakeManager snakeManager = new SnakeManagerImpl(Boards.borderSnake(side, snakeLength), 1);
+		powerUpManager = new PowerUpManagerImpl(powerUps, 0, 0, new SplittableRandom(1));
+		model = new GameModelImpl(new FieldDimension(side, side), snakeManager, powerUpManager, new SplittableRandom(2));
+		placePowerUps();
+		SplittableRandom random = new SplittableRandom(3);
+		for(int i = 0; i < QUERIES; i++) {
+			queries[i] = i % 2 == 0 && !powerUpManager.getPowerUps().isEmpty()
+					? powerUpManager.getPowerUps().get(random.nextInt(powerUpManager.getPowerUps().size())).getPoint()
+					: new Coordinate(random.nextInt(1, side + 1), random.nextInt(1, side + 1));
+		}
+	}
+
+	private void placePowerUps() {
+		for(int i = powerUpManager.getPowerUps().size(); i < powerUps; i++) {
+			Coordinate point = model.getNewFreeCoordinate();
+			if(point == null) break;
+			powerUpManager.createPowerUp(PowerUpTypes.APPLE, point);
+		}
+		powerUpManager.setWaitingAndExistingPowerUpsNumber(powerUpManager.getPowerUps().size());
+	}
+
+	@Benchmark
+	public Coordinate getNewFreeCoordinate() {
+		return model.getNewFreeCoordinate();
+	}
+
+	@Benchmark
+	public Object getPowerUpByPoint() {
+		return powerUpManager.getPowerUpByPoint(queries[query++ & (QUERIES - 1)]);
+	}
+
+	/**
+	 * Creates one due power up and removes it, so the amount of power ups stays the same.
+	 */
+	@Benchmark
+	public int createPowerUps() {
+		powerUpManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
+		powerUpManager.countdownWaitingPowerUps();
+		powerUpManager.createPowerUps(model::getNewFreeCoordinate);
+		var existing = powerUpManager.getPowerUps();
+		int size = existing.size();
+		powerUpManager.removePowerUp(existing.get(size - 1));
+		return size;
+	}
+
+	/**
+	 * Snake follows the border, eaten power ups are replaced by the game itself,
+	 * the game restarts if snake grows long enough to bite itself.
+	 */
+	@Benchmark
+	public boolean oneFrameGameAction() {
+		Snake snake = model.getSnake();
+		model.changeSnakeDirection(Boards.clockwiseTurn(snake.headCell(), snake.getDirection(), side));
+		boolean gameOver = model.oneFrameGameAction();
+		if(gameOver) {
+			model.resetState();
+			Boards.layOnBorder(model.getSnake(), side, snakeLength);
+			model.setDimension(model.getDimension());
+			placePowerUps();
+		}
+		return gameOver;
+	}
+}
@@ -0,0 +1,49 @@
+package org.jeffersonairplane.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jeffersonairplane.model.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Snake step and self collision check on a board with occupancy grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnakeBenchmark {
+
+	@Param({"SMALL", "MEDIUM", "LARGE", "100", "1000"})
+	public String board;
+
+	@Param({"5", "100", "1000"})
+	public int snakeLength;
+
+	private int side;
+	private SnakeManager snakeManager;
+
+	@Setup
+	public void setUp() {
+		side = Boards.side(board);
+		snakeManager = new SnakeManagerImpl(Boards.borderSnake(side, snakeLength), 1);
+		new GameModelImpl(new FieldDimension(side, side), snakeManager,
+				new PowerUpManagerImpl(0, 0, 0, new SplittableRandom(1)), new SplittableRandom(2));
+	}
+
+	@Benchmark
+	public int snakeStep() {
+		Snake snake = snakeManager.getSnake();
+		snake.setDirection(Boards.clockwiseTurn(snake.headCell(), snake.getDirection(), side));
+		snakeManager.snakeStep();
+		return snake.headCell();
+	}
+
+	@Benchmark
+	public boolean snakeSelfCollide() {
+		return snakeManager.snakeSelfCollide();
+	}
+}
@@ -0,0 +1,248 @@
+package org.jeffersonairplane;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Typed game settings, parsed and validated once from application.properties.
+ * Immutable, so one instance is shared by model, view and view model.
+ * Colors are packed 0xRRGGBB ints and fonts are names with sizes, so model side never loads AWT.
+ */
+@Getter
+public final class GameConfig {
+
+	/**
+	 * Font name and size, style is chosen by UI element.
+	 * @param name is a font family name.
+	 * @param size is a point size.
+	 */
+	public record FontSpec(String name, int size) {}
+
+	private final int gameWindowWidth;
+	private final int gameWindowHeight;
+	private final int infoWindowHeight;
+	private final int blocksAmountX;
+	private final int blocksAmountY;
+	private final String gameFrameTitle;
+
+	private final int playingFieldBackgroundColor;
+	private final int infoWindowBackgroundColor;
+	private final int infoTextColor;
+	private final int gameOverTextColor;
+	private final int pauseTextColor;
+
+	private final int frameMilliseconds;
+	private final int messageShowDurationFrames;
+	private final boolean activeRendering;
+	private final int renderBuffers;
+	private final boolean rasterRendering;
+
+	private final int initialSnakeSize;
+	private final int snakeMoveDelay;
+	private final int snakeColor;
+	private final int snakeEatAppleColor;
+	private final int snakeEatTailCutterColor;
+
+	private final int powerUpNumberLimit;
+	private final int powerUpNumberLimitCap;
+	private final int powerUpCreationDelayMin;
+	private final int powerUpCreationDelayMax;
+
+	private final int appleLowerLimit;
+	private final int appleHigherLimit;
+	private final int tailCutterLowerLimit;
+	private final int tailCutterHigherLimit;
+
+	private final int appleColor;
+	private final int tailCutterColor;
+
+	private final String scoreMessage;
+	private final String appleMessage;
+	private final String tailCutterMessage;
+	private final String gameOverMessage;
+	private final String pauseMessage;
+
+	private final FontSpec gameOverLabelFont;
+	private final FontSpec pauseLabelFont;
+	private final FontSpec gameplayInfoLabelFont;
+
+	private final String gameTitle;
+	private final String startGameButtonTitle;
+	private final String powerUpsAmountButtonTitle;
+	private final String fieldSizeButtonTitle;
+	private final String exitButtonTitle;
+	private final String controlsExplanationText;
+
+	private final int menuBackgroundColor;
+	private final boolean buttonFocusPainted;
+	private final int buttonBackgroundColor;
+	private final int buttonForegroundColor;
+	private final FontSpec buttonFont;
+	private final int buttonFontType;
+	private final FontSpec gameLabelFont;
+	private final int gameLabelForegroundColor;
+	private final FontSpec controlsExplanationFont;
+	private final int controlsExplanationForegroundColor;
+	private final int buttonPreferredWidth;
+	private final int buttonPreferredHeight;
+	private final int gameTitlePreferredHeight;
+	private final int controlsExplanationPreferredHeight;
+
+	private static final Logger logger = Logger.getLogger(GameConfig.class.getName());
+
+	/**
+	 * Parses and validates every setting.
+	 * @param props are settings in application.properties format.
+	 * @throws IllegalArgumentException naming the key if setting is missing or has bad value.
+	 */
+	public GameConfig(Properties props) {
+		if(props == null) throw new NullPointerException("Properties are null");
+		gameWindowWidth = positiveInt(props, "game_window_width");
+		gameWindowHeight = positiveInt(props, "game_window_height");
+		infoWindowHeight = positiveInt(props, "info_window_height");
+		blocksAmountX = positiveInt(props, "blocks_amount_x");
+		blocksAmountY = positiveInt(props, "blocks_amount_y");
+		gameFrameTitle = string(props, "game_frame_title");
+
+		playingFieldBackgroundColor = color(props, "playing_field_background_color");
+		infoWindowBackgroundColor = color(props, "info_window_background_color");
+		infoTextColor = color(props, "info_text_color");
+		gameOverTextColor = color(props, "game_over_text_color");
+		pauseTextColor = color(props, "pause_text_color");
+
+		frameMilliseconds = positiveInt(props, "frame_milliseconds");
+		messageShowDurationFrames = intInRange(props, "message_show_duration_frames", 0, Integer.MAX_VALUE);
+		activeRendering = bool(props, "active_rendering");
+		renderBuffers = intInRange(props, "render_buffers", 2, 3);
+		rasterRendering = bool(props, "raster_rendering");
+
+		initialSnakeSize = positiveInt(props, "initial_snake_size");
+		snakeMoveDelay = positiveInt(props, "snake_move_delay");
+		snakeColor = color(props, "snake_color");
+		snakeEatAppleColor = color(props, "snake_eat_apple_color");
+		snakeEatTailCutterColor = color(props, "snake_eat_tailcutter_color");
+
+		powerUpNumberLimit = intInRange(props, "pu_number_limit", 0, Integer.MAX_VALUE);
+		powerUpNumberLimitCap = intInRange(props, "pu_number_limit_cap", powerUpNumberLimit, Integer.MAX_VALUE);
+		powerUpCreationDelayMin = intInRange(props, "pu_creation_delay_min", 0, Integer.MAX_VALUE);
+		powerUpCreationDelayMax = intInRange(props, "pu_creation_delay_max", powerUpCreationDelayMin, Integer.MAX_VALUE);
+
+		appleLowerLimit = intInRange(props, "apple_lower_limit", 0, 100);
+		appleHigherLimit = intInRange(props, "apple_higher_limit", appleLowerLimit, 100);
+		tailCutterLowerLimit = intInRange(props, "tail_cutter_lower_limit", 0, 100);
+		tailCutterHigherLimit = intInRange(props, "tail_cutter_higher_limit", tailCutterLowerLimit, 100);
+
+		appleColor = color(props, "apple_color");
+		tailCutterColor = color(props, "tail_cutter_color");
+
+		scoreMessage = string(props, "score_message");
+		appleMessage = string(props, "apple_message");
+		tailCutterMessage = string(props, "tail_cutter_message");
+		gameOverMessage = string(props, "game_over_message");
+		pauseMessage = string(props, "pause_message");
+
+		gameOverLabelFont = font(props, "game_over_label_font", "game_over_label_font_size");
+		pauseLabelFont = font(props, "pause_label_font", "pause_label_font_size");
+		gameplayInfoLabelFont = font(props, "gameplay_info_label_font", "gameplay_info_label_font_size");
+
+		gameTitle = string(props, "game_title");
+		startGameButtonTitle = string(props, "start_game_button_title");
+		powerUpsAmountButtonTitle = string(props, "power_ups_amount_button_title");
+		fieldSizeButtonTitle = string(props, "field_size_button_title");
+		exitButtonTitle = string(props, "exit_button_title");
+		controlsExplanationText = string(props, "controls_explanation_text");
+
+		menuBackgroundColor = color(props, "menu_background");
+		buttonFocusPainted = bool(props, "btn_focus_painted");
+		buttonBackgroundColor = color(props, "btn_background");
+		buttonForegroundColor = color(props, "btn_foreground");
+		buttonFont = font(props, "btn_font_title", "btn_font_size");
+		buttonFontType = intInRange(props, "btn_font_type", 0, 3);
+		gameLabelFont = font(props, "game_label_font_title", "game_label_font_size");
+		gameLabelForegroundColor = color(props, "game_label_foreground");
+		controlsExplanationFont = font(props, "controls_explanation_font_title", "controls_explanation_font_size");
+		controlsExplanationForegroundColor = color(props, "controls_explanation_foreground");
+		buttonPreferredWidth = positiveInt(props, "btn_preferred_width");
+		buttonPreferredHeight = positiveInt(props, "btn_preferred_height");
+		gameTitlePreferredHeight = positiveInt(props, "game_title_preferred_height");
+		controlsExplanationPreferredHeight = positiveInt(props, "controls_explanation_preferred_height");
+	}
+
+	/**
+	 * Reads and validates application.properties from classpath.
+	 * @return game settings.
+	 */
+	public static GameConfig load() {
+		try {
+			GameConfig config = new GameConfig(PropertiesLoader.getProperties());
+			logger.log(Level.FINE, "Game config loaded.");
+			return config;
+		}
+		catch (IOException | RuntimeException e) {
+			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
+			throw e instanceof RuntimeException runtime ? runtime : new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Settings from application.properties, loaded on the first call only.
+	 * Used by no args constructors, injected config should be preferred.
+	 * @return shared game settings.
+	 */
+	public static GameConfig getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	private static final class DefaultHolder {
+		private static final GameConfig DEFAULT = load();
+	}
+
+	private static String string(Properties props, String key) {
+		String value = props.getProperty(key);
+		if(value == null) throw new IllegalArgumentException("Missing property: " + key);
+		return value;
+	}
+
+	private static int intInRange(Properties props, String key, int min, int max) {
+		String value = string(props, key).trim();
+		int parsed;
+		try {
+			parsed = Integer.parseInt(value);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Property " + key + " is not an integer: " + value, e);
+		}
+		if(parsed < min || parsed > max) {
+			throw new IllegalArgumentException("Property " + key + " should be from " + min + " to " + max + ": " + parsed);
+		}
+		return parsed;
+	}
+
+	private static int positiveInt(Properties props, String key) {
+		return intInRange(props, key, 1, Integer.MAX_VALUE);
+	}
+
+	private static boolean bool(Properties props, String key) {
+		String value = string(props, key).trim();
+		if(!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+			throw new IllegalArgumentException("Property " + key + " is not a boolean: " + value);
+		}
+		return Boolean.parseBoolean(value);
+	}
+
+	/**
+	 * Reads prefix_red, prefix_green and prefix_blue components.
+	 */
+	private static int color(Properties props, String prefix) {
+		return intInRange(props, prefix + "_red", 0, 255) << 16
+				| intInRange(props, prefix + "_green", 0, 255) << 8
+				| intInRange(props, prefix + "_blue", 0, 255);
+	}
+
+	private static FontSpec font(Properties props, String nameKey, String sizeKey) {
+		return new FontSpec(string(props, nameKey), positiveInt(props, sizeKey));
+	}
+}
@@ -0,0 +1,165 @@
+package org.jeffersonairplane;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Holder of the current {@link GameConfig} snapshot.
+ * Optional external properties file overrides bundled settings and is watched for changes.
+ * Changed file is parsed on the watcher thread and published with one volatile write,
+ * so game loop reads the new snapshot on the next frame without locks.
+ * Invalid file is logged and the previous snapshot stays in use.
+ */
+public class GameConfigSource implements AutoCloseable {
+
+	/**
+	 * System property with a path to external properties file.
+	 */
+	public static final String CONFIG_FILE_PROPERTY = "snake.config.file";
+
+	private volatile GameConfig current;
+	private final Path externalFile;
+	private WatchService watchService;
+	private Thread watcher;
+
+	private static final Logger logger = Logger.getLogger(GameConfigSource.class.getName());
+
+	/**
+	 * Constructor of source which never changes.
+	 * @param config is a game settings snapshot.
+	 */
+	public GameConfigSource(GameConfig config) {
+		if(config == null) throw new NullPointerException("Game config is null");
+		current = config;
+		externalFile = null;
+	}
+
+	/**
+	 * Constructor of source backed by external file, call {@link #start()} to watch the file.
+	 * @param externalFile is a properties file overriding bundled settings.
+	 * @throws IllegalArgumentException if file settings are invalid.
+	 */
+	public GameConfigSource(Path externalFile) {
+		if(externalFile == null) throw new NullPointerException("Config file is null");
+		this.externalFile = externalFile.toAbsolutePath();
+		current = parse(this.externalFile);
+	}
+
+	/**
+	 * Creates source from {@value #CONFIG_FILE_PROPERTY} system property and starts watching the file.
+	 * Bundled settings are used as is if property is not set.
+	 * @return config source.
+	 */
+	public static GameConfigSource fromSystemProperties() {
+		String fileName = System.getProperty(CONFIG_FILE_PROPERTY);
+		if(fileName == null || fileName.isBlank()) return new GameConfigSource(GameConfig.load());
+		try {
+			GameConfigSource source = new GameConfigSource(Path.of(fileName));
+			source.start();
+			return source;
+		}
+		catch (RuntimeException e) {
+			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
+			throw e;
+		}
+	}
+
+	/**
+	 * Getter
+	 * @return latest valid settings snapshot.
+	 */
+	public GameConfig get() {
+		return current;
+	}
+
+	/**
+	 * Getter
+	 * @return true if settings come from external file.
+	 */
+	public boolean isReloadable() {
+		return externalFile != null;
+	}
+
+	/**
+	 * Parses external file again and publishes new snapshot.
+	 * @return true if new snapshot published, false if file is missing or invalid.
+	 */
+	public boolean reload() {
+		if(externalFile == null) return false;
+		try {
+			current = parse(externalFile);
+			logger.log(Level.INFO, "Game config reloaded from {0}.", externalFile);
+			return true;
+		}
+		catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Game config was not reloaded, previous one is kept. " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Starts daemon thread watching external file directory.
+	 * Does nothing if source has no external file or is already started.
+	 */
+	public synchronized void start() {
+		if(externalFile == null || watcher != null) return;
+		try {
+			watchService = externalFile.getFileSystem().newWatchService();
+			externalFile.getParent().register(watchService,
+					StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		}
+		catch (IOException e) {
+			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
+			throw new RuntimeException(e);
+		}
+		watcher = new Thread(this::watch, "game-config-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+		logger.log(Level.FINE, "Watching game config {0}.", externalFile);
+	}
+
+	/**
+	 * Stops watching external file, current snapshot stays available.
+	 */
+	@Override
+	public synchronized void close() {
+		if(watcher == null) return;
+		watcher.interrupt();
+		try {
+			watchService.close();
+		}
+		catch (IOException e) {
+			logger.log(Level.WARNING, e.getMessage());
+		}
+		watcher = null;
+	}
+
+	private void watch() {
+		Path fileName = externalFile.getFileName();
+		try {
+			while(!Thread.currentThread().isInterrupted()) {
+				WatchKey key = watchService.take();
+				boolean changed = false;
+				for(WatchEvent<?> event: key.pollEvents()) {
+					if(fileName.equals(event.context())) changed = true;
+				}
+				if(changed) reload();
+				if(!key.reset()) break;
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e) {
+			logger.log(Level.FINE, "Game config watcher stopped.");
+		}
+	}
+
+	private static GameConfig parse(Path file) {
+		try {
+			return new GameConfig(PropertiesLoader.getProperties(file));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Config file is not readable: " + file, e);
+		}
+	}
+}
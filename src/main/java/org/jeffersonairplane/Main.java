@@ -1,17 +1,18 @@
 package org.jeffersonairplane;
 
 import org.jeffersonairplane.view.*;
-import org.jeffersonairplane.model.*;
+import org.jeffersonairplane.simulation.ModelWarmUp;
 import org.jeffersonairplane.viewmodel.*;
 
 public class Main {
 	
     public static void main(String[] args) {
 
-		GameView view = new GameViewImpl();
-		var model = new GameModelImpl();
-		model.setPowerUpTypesCreationChances();
+		GameConfigSource configSource = GameConfigSource.fromSystemProperties();
+		GameConfig config = configSource.get();
+		ModelWarmUp.start(config, ModelWarmUp.DEFAULT_FRAMES);
+		GameView view = new GameViewImpl(config);
 		view.setPowerUpColors();
-        GameViewModel gameViewModel = new GameViewModelImpl(view, new Animations());
+        GameViewModel gameViewModel = new GameViewModelImpl(view, new Animations(config), configSource);
     }
 }
\ No newline at end of file
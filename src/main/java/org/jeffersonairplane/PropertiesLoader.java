@@ -1,6 +1,7 @@
 package org.jeffersonairplane;
 
 import java.io.*;
+import java.nio.file.*;
 import java.util.*;
 
 /**
@@ -40,4 +41,17 @@ public class PropertiesLoader {
         }
         return configuration;
     }
-}
\ No newline at end of file
+
+	/**
+	* Returns {@link Properties} from application.properties file overridden by external file.
+	* @param externalFile is a path to properties file outside of classpath, only keys to override are needed.
+	* @return Properties to work with.
+	*/
+    public static Properties getProperties(Path externalFile) throws IOException {
+        Properties configuration = getProperties();
+        try(InputStream inputStream = Files.newInputStream(externalFile)) {
+            configuration.load(inputStream);
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,23 @@
+package org.jeffersonairplane;
+
+/**
+ * Gate for tracing on the per-frame hot path.
+ * Hot path logging is written as {@code if(Trace.ENABLED) logger.log(...)}.
+ * Flag is a static final constant, so with tracing off JIT folds the check and drops the whole call,
+ * no level check, boxing or varargs array is left in the game loop.
+ * Tracing is switched on by starting JVM with {@code -Dsnake.trace=true} and FINE level for the loggers.
+ */
+public final class Trace {
+
+	/**
+	 * System property switching tracing on.
+	 */
+	public static final String PROPERTY = "snake.trace";
+
+	/**
+	 * True if hot path tracing is switched on, read once on class initialization.
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+	private Trace() {}
+}
@@ -0,0 +1,23 @@
+package org.jeffersonairplane.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Game state passed to view in GameViewModelImpl.drawGame.
+ */
+@Name("org.jeffersonairplane.DrawGame")
+@Label("Draw Game")
+@Category({"Snake Game", "View"})
+@Description("Game state passed to view in GameViewModelImpl.drawGame.")
+@StackTrace(false)
+public class DrawGameEvent extends Event {
+
+	@Label("Frame")
+	public long frame;
+
+	@Label("Snake Length")
+	public int snakeLength;
+
+	@Label("Power Ups")
+	public int powerUps;
+}
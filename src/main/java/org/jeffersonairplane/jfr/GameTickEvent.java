@@ -0,0 +1,26 @@
+package org.jeffersonairplane.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * One frame of game logic in GameModelImpl.oneFrameGameAction.
+ */
+@Name("org.jeffersonairplane.GameTick")
+@Label("Game Tick")
+@Category({"Snake Game", "Model"})
+@Description("One frame of game logic in GameModelImpl.oneFrameGameAction.")
+@StackTrace(false)
+public class GameTickEvent extends Event {
+
+	@Label("Frame")
+	public long frame;
+
+	@Label("Snake Length")
+	public int snakeLength;
+
+	@Label("Power Ups")
+	public int powerUps;
+
+	@Label("Game Over")
+	public boolean gameOver;
+}
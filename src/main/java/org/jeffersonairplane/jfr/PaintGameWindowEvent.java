@@ -0,0 +1,23 @@
+package org.jeffersonairplane.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Playing field painted in GameWindow.paintComponent.
+ */
+@Name("org.jeffersonairplane.PaintGameWindow")
+@Label("Paint Game Window")
+@Category({"Snake Game", "View"})
+@Description("Playing field painted in GameWindow.paintComponent.")
+@StackTrace(false)
+public class PaintGameWindowEvent extends Event {
+
+	@Label("Frame")
+	public long frame;
+
+	@Label("Snake Length")
+	public int snakeLength;
+
+	@Label("Power Ups")
+	public int powerUps;
+}
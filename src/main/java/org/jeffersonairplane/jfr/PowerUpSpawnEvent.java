@@ -0,0 +1,24 @@
+package org.jeffersonairplane.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Creation of due power ups in PowerUpManagerImpl.createPowerUps.
+ */
+@Name("org.jeffersonairplane.PowerUpSpawn")
+@Label("Power Up Spawn")
+@Category({"Snake Game", "Model"})
+@Description("Creation of due power ups in PowerUpManagerImpl.createPowerUps.")
+@StackTrace(false)
+public class PowerUpSpawnEvent extends Event {
+
+	@Label("Frame")
+	@Description("Frames counted by power up manager since its reset.")
+	public long frame;
+
+	@Label("Created")
+	public int created;
+
+	@Label("Power Ups")
+	public int powerUps;
+}
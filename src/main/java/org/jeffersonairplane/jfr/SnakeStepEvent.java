@@ -0,0 +1,23 @@
+package org.jeffersonairplane.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Snake moved one block in SnakeManagerImpl.snakeStep.
+ */
+@Name("org.jeffersonairplane.SnakeStep")
+@Label("Snake Step")
+@Category({"Snake Game", "Model"})
+@Description("Snake moved one block in SnakeManagerImpl.snakeStep.")
+@StackTrace(false)
+public class SnakeStepEvent extends Event {
+
+	@Label("Snake Length")
+	public int snakeLength;
+
+	@Label("Head X")
+	public int headX;
+
+	@Label("Head Y")
+	public int headY;
+}
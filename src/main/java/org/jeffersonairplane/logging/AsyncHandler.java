@@ -0,0 +1,230 @@
+package org.jeffersonairplane.logging;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.*;
+
+/**
+ * Logging handler which never writes on the logging thread.
+ * Records are put on a bounded lock-free queue and written by a background thread in batches,
+ * target handler is flushed once per batch.
+ * Full queue either drops new records or makes logging thread wait, depending on {@link OverflowPolicy}.
+ * <p>Configured by {@link LogManager} properties when created by no args constructor, for example:</p>
+ * <pre>
+ * handlers = org.jeffersonairplane.logging.AsyncHandler
+ * org.jeffersonairplane.logging.AsyncHandler.level = FINE
+ * org.jeffersonairplane.logging.AsyncHandler.pattern = %h/snake-game%u.log
+ * org.jeffersonairplane.logging.AsyncHandler.capacity = 8192
+ * org.jeffersonairplane.logging.AsyncHandler.batch = 256
+ * org.jeffersonairplane.logging.AsyncHandler.policy = DROP
+ * </pre>
+ */
+public class AsyncHandler extends Handler {
+
+	/**
+	 * What to do with a record when queue is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Record is dropped and counted, logging thread never waits.
+		 */
+		DROP,
+		/**
+		 * Logging thread waits until writer frees a slot.
+		 */
+		BLOCK
+	}
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+	private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final Handler target;
+	private final BoundedQueue<LogRecord> queue;
+	private final OverflowPolicy policy;
+	private final int batchSize;
+	private final AtomicLong accepted = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private volatile long written;
+	private volatile boolean writerParked;
+	private volatile boolean closed;
+	private final Thread writer;
+
+	/**
+	 * Constructor configured by {@link LogManager} properties, records are written to a {@link FileHandler}.
+	 * @throws IOException if log file can not be opened.
+	 */
+	public AsyncHandler() throws IOException {
+		this(createFileHandler(), intProperty("capacity", 8192), policyProperty(), intProperty("batch", 256));
+		String level = LogManager.getLogManager().getProperty(AsyncHandler.class.getName() + ".level");
+		if(level != null) setLevel(Level.parse(level.trim()));
+	}
+
+	/**
+	 * Constructor.
+	 * @param target is a handler records are written to, used by writer thread only.
+	 * @param capacity is a max amount of records waiting for writing, rounded up to a power of two.
+	 * @param policy tells what to do when queue is full.
+	 * @param batchSize is a max amount of records written between target flushes.
+	 */
+	public AsyncHandler(Handler target, int capacity, OverflowPolicy policy, int batchSize) {
+		if(target == null) throw new NullPointerException("Target handler is null");
+		if(policy == null) throw new NullPointerException("Overflow policy is null");
+		if(capacity <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("Capacity and batch size should be positive: " + capacity + ", " + batchSize);
+		}
+		this.target = target;
+		this.policy = policy;
+		this.batchSize = batchSize;
+		queue = new BoundedQueue<>(capacity);
+		writer = new Thread(this::writeLoop, "async-log-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Queues record for writing.
+	 * Caller class and method are resolved here, because writer thread can not see the caller stack.
+	 * @param record to write.
+	 */
+	@Override
+	public void publish(LogRecord record) {
+		if(closed || record == null || !isLoggable(record)) return;
+		record.getSourceClassName();
+		if(!queue.offer(record)) {
+			if(policy == OverflowPolicy.DROP) {
+				dropped.incrementAndGet();
+				return;
+			}
+			do {
+				if(closed) {
+					dropped.incrementAndGet();
+					return;
+				}
+				LockSupport.unpark(writer);
+				LockSupport.parkNanos(FULL_PARK_NANOS);
+			} while(!queue.offer(record));
+		}
+		accepted.incrementAndGet();
+		if(writerParked) LockSupport.unpark(writer);
+	}
+
+	/**
+	 * Waits up to one second until records queued before the call are written, then flushes target.
+	 */
+	@Override
+	public void flush() {
+		long expected = accepted.get();
+		long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+		while(written < expected && writer.isAlive() && System.nanoTime() < deadline) {
+			LockSupport.unpark(writer);
+			LockSupport.parkNanos(FULL_PARK_NANOS);
+		}
+		synchronized(target) {
+			target.flush();
+		}
+	}
+
+	/**
+	 * Writes every queued record, reports dropped records and closes target.
+	 */
+	@Override
+	public void close() {
+		if(closed) return;
+		closed = true;
+		LockSupport.unpark(writer);
+		try {
+			writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized(target) {
+			long droppedRecords = dropped.get();
+			if(droppedRecords > 0) {
+				target.publish(new LogRecord(Level.WARNING, "Async log handler dropped " + droppedRecords + " records."));
+			}
+			target.close();
+		}
+	}
+
+	/**
+	 * Getter
+	 * @return amount of records dropped because queue was full.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Getter
+	 * @return amount of records waiting for writing.
+	 */
+	public int getQueuedCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Getter
+	 * @return policy used when queue is full.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return policy;
+	}
+
+	private void writeLoop() {
+		while(!closed || queue.size() > 0) {
+			if(writeBatch() == 0) {
+				writerParked = true;
+				if(!closed && queue.size() == 0) LockSupport.parkNanos(IDLE_PARK_NANOS);
+				writerParked = false;
+			}
+		}
+	}
+
+	private int writeBatch() {
+		int amount = 0;
+		synchronized(target) {
+			LogRecord record;
+			while(amount < batchSize && (record = queue.poll()) != null) {
+				target.publish(record);
+				++amount;
+			}
+			if(amount > 0) target.flush();
+		}
+		written += amount;
+		return amount;
+	}
+
+	private static Handler createFileHandler() throws IOException {
+		String pattern = LogManager.getLogManager().getProperty(AsyncHandler.class.getName() + ".pattern");
+		FileHandler handler = new FileHandler(pattern == null ? "%h/snake-game%u.log" : pattern.trim(), true);
+		handler.setFormatter(new SimpleFormatter());
+		handler.setLevel(Level.ALL);
+		return handler;
+	}
+
+	private static int intProperty(String name, int defaultValue) {
+		String value = LogManager.getLogManager().getProperty(AsyncHandler.class.getName() + "." + name);
+		if(value == null) return defaultValue;
+		try {
+			return Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	private static OverflowPolicy policyProperty() {
+		String value = LogManager.getLogManager().getProperty(AsyncHandler.class.getName() + ".policy");
+		if(value == null) return OverflowPolicy.DROP;
+		try {
+			return OverflowPolicy.valueOf(value.trim().toUpperCase());
+		}
+		catch (IllegalArgumentException e) {
+			return OverflowPolicy.DROP;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package org.jeffersonairplane.logging;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Bounded lock-free queue for many producers and one or more consumers.
+ * Every slot has a sequence number telling whether it may be written or read on the current lap,
+ * so producers claim slots with one CAS and never wait for each other.
+ * @param <E> is a type of elements.
+ */
+final class BoundedQueue<E> {
+
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 * @param capacity is a max amount of elements, rounded up to a power of two.
+	 */
+	BoundedQueue(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		elements = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for(int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		mask = size - 1;
+	}
+
+	/**
+	 * Getter
+	 * @return max amount of elements.
+	 */
+	int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Adds element if queue is not full.
+	 * @param element to add, not null.
+	 * @return false if queue is full.
+	 */
+	boolean offer(E element) {
+		long position = tail.get();
+		while(true) {
+			int slot = (int) (position & mask);
+			long difference = sequences.get(slot) - position;
+			if(difference == 0) {
+				if(tail.compareAndSet(position, position + 1)) {
+					elements.lazySet(slot, element);
+					sequences.set(slot, position + 1);
+					return true;
+				}
+				position = tail.get();
+			}
+			else if(difference < 0) {
+				return false;
+			}
+			else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Takes the oldest element.
+	 * @return element or null if queue is empty.
+	 */
+	E poll() {
+		long position = head.get();
+		while(true) {
+			int slot = (int) (position & mask);
+			long difference = sequences.get(slot) - (position + 1);
+			if(difference == 0) {
+				if(head.compareAndSet(position, position + 1)) {
+					E element = elements.get(slot);
+					elements.lazySet(slot, null);
+					sequences.set(slot, position + mask + 1);
+					return element;
+				}
+				position = head.get();
+			}
+			else if(difference < 0) {
+				return null;
+			}
+			else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * Approximate amount of elements, exact if nobody changes queue at the moment.
+	 * @return amount of elements.
+	 */
+	int size() {
+		return (int) Math.max(tail.get() - head.get(), 0);
+	}
+}
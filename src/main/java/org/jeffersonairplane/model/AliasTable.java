@@ -0,0 +1,84 @@
+package org.jeffersonairplane.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks an index with probability proportional to its weight using Vose's alias method.
+ * Table is built once in linear time, every pick costs one random int and one random double and allocates nothing.
+ */
+public class AliasTable {
+
+	private final double[] probabilities;
+	private final int[] aliases;
+
+	/**
+	 * Builds the table.
+	 * If every weight is zero, all indexes have the same chance.
+	 * @param weights of indexes, should be finite and non negative, fractional values allowed.
+	 * @throws IllegalArgumentException if weights are empty, negative or not finite.
+	 */
+	public AliasTable(double[] weights) {
+		if(weights == null || weights.length == 0) throw new IllegalArgumentException("No weights to build alias table");
+		int n = weights.length;
+		double sum = 0;
+		int heaviest = 0;
+		for(int i = 0; i < n; i++) {
+			if(!Double.isFinite(weights[i]) || weights[i] < 0) {
+				throw new IllegalArgumentException("Weight should be finite and non negative: " + weights[i] + " at " + i);
+			}
+			sum += weights[i];
+			if(weights[i] > weights[heaviest]) heaviest = i;
+		}
+		if(!Double.isFinite(sum)) throw new IllegalArgumentException("Weights sum is too big: " + sum);
+		probabilities = new double[n];
+		aliases = new int[n];
+
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallAmount = 0, largeAmount = 0;
+		for(int i = 0; i < n; i++) {
+			scaled[i] = sum == 0 ? 1 : weights[i] * n / sum;
+			if(scaled[i] < 1) small[smallAmount++] = i;
+			else large[largeAmount++] = i;
+		}
+		while(smallAmount > 0 && largeAmount > 0) {
+			int less = small[--smallAmount];
+			int more = large[--largeAmount];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = scaled[more] + scaled[less] - 1;
+			if(scaled[more] < 1) small[smallAmount++] = more;
+			else large[largeAmount++] = more;
+		}
+		// Leftovers differ from 1 by rounding error only, zero weights still must never be picked.
+		while(largeAmount > 0) {
+			int index = large[--largeAmount];
+			probabilities[index] = 1;
+			aliases[index] = index;
+		}
+		while(smallAmount > 0) {
+			int index = small[--smallAmount];
+			probabilities[index] = scaled[index];
+			aliases[index] = heaviest;
+		}
+	}
+
+	/**
+	 * Getter
+	 * @return amount of indexes.
+	 */
+	public int size() {
+		return probabilities.length;
+	}
+
+	/**
+	 * Picks random index.
+	 * @param random is a source of randomness.
+	 * @return index from 0 to size - 1.
+	 */
+	public int sample(RandomGenerator random) {
+		int column = random.nextInt(probabilities.length);
+		return random.nextDouble() < probabilities[column] ? column : aliases[column];
+	}
+}
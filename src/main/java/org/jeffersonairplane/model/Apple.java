@@ -22,8 +22,6 @@ public class Apple extends PowerUp {
     @Override
     public void influence(Snake snake) {
 		if(snake == null) throw new NullPointerException("Snake is null");
-		Coordinate tail = snake.getSnakeBlocks().getFirst();
-		Coordinate newTail = new Coordinate(tail.xCoord(), tail.yCoord());
-		snake.getSnakeBlocks().offerFirst(newTail);
+		snake.addTail(snake.tailCell());
     }
 }
@@ -0,0 +1,57 @@
+package org.jeffersonairplane.model;
+
+/**
+ * Packs block coordinates into one int, so game elements can be stored in primitive arrays.
+ * X coordinate takes upper 16 bits, Y coordinate takes lower 16 bits.
+ * Both coordinates should be in a range from -32768 to 32767.
+ */
+public final class CellId {
+
+	private CellId() {}
+
+	/**
+	 * Packs block coordinates.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 * @return packed cell id.
+	 */
+	public static int of(int x, int y) {
+		return (x << 16) | (y & 0xFFFF);
+	}
+
+	/**
+	 * Packs block coordinates.
+	 * @param point is a block coordinate.
+	 * @return packed cell id.
+	 */
+	public static int of(Coordinate point) {
+		return of(point.xCoord(), point.yCoord());
+	}
+
+	/**
+	 * Unpacks X-axis coordinate.
+	 * @param cell is a packed cell id.
+	 * @return X-axis coordinate of block.
+	 */
+	public static int x(int cell) {
+		return cell >> 16;
+	}
+
+	/**
+	 * Unpacks Y-axis coordinate.
+	 * @param cell is a packed cell id.
+	 * @return Y-axis coordinate of block.
+	 */
+	public static int y(int cell) {
+		return (short) cell;
+	}
+
+	/**
+	 * Unpacks block coordinates.
+	 * @param cell is a packed cell id.
+	 * @return block coordinate.
+	 */
+	public static Coordinate toCoordinate(int cell) {
+		return new Coordinate(x(cell), y(cell));
+	}
+}
@@ -0,0 +1,198 @@
+package org.jeffersonairplane.model;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Fixed size ring of the latest game events, kept in preallocated primitive arrays.
+ * Event is a frame number, a type, an int payload (commonly a {@link CellId}) and a small detail value.
+ * Recording stores four array elements and allocates nothing, the oldest events are overwritten.
+ * Ring is written as text on demand, for example when the game is over.
+ * Recorder is not thread safe, events should be recorded by the game loop thread.
+ */
+public class FlightRecorder {
+
+	/**
+	 * Types of recorded events.
+	 */
+	public enum EventType {
+		/**
+		 * Snake direction changed, detail is a {@link org.jeffersonairplane.viewmodel.Direction} ordinal.
+		 */
+		DIRECTION,
+		/**
+		 * Snake stepped, payload is a new head cell.
+		 */
+		STEP,
+		/**
+		 * Power up created, payload is its cell, detail is a {@link PowerUpTypes} ordinal.
+		 */
+		SPAWN,
+		/**
+		 * Power up taken by snake, payload is its cell, detail is a {@link PowerUpTypes} ordinal.
+		 */
+		PICKUP,
+		/**
+		 * Snake collided, payload is a head cell, detail is {@link #BORDER_COLLISION} or {@link #SELF_COLLISION}.
+		 */
+		COLLISION
+	}
+
+	/**
+	 * Collision detail of snake head outside of playing field.
+	 */
+	public static final int BORDER_COLLISION = 0;
+	/**
+	 * Collision detail of snake head on its own block.
+	 */
+	public static final int SELF_COLLISION = 1;
+	/**
+	 * System property with a directory for dumps written on game over, nothing is written if not set.
+	 */
+	public static final String DUMP_DIRECTORY_PROPERTY = "snake.flight.dir";
+
+	private static final EventType[] EVENT_TYPES = EventType.values();
+
+	private final long[] frames;
+	private final byte[] types;
+	private final int[] payloads;
+	private final byte[] details;
+	private final int mask;
+	/**
+	 * Total amount of recorded events, next event is written at recorded & mask.
+	 */
+	private long recorded;
+	private long currentFrame;
+	private final Path dumpDirectory;
+
+	private final Logger logger = Logger.getLogger(getClass().getName());
+
+	/**
+	 * Constructor, dumps on game over go to directory from {@value #DUMP_DIRECTORY_PROPERTY} system property.
+	 * @param capacity is an amount of latest events kept, rounded up to a power of two.
+	 */
+	public FlightRecorder(int capacity) {
+		this(capacity, dumpDirectoryFromSystemProperties());
+	}
+
+	/**
+	 * Constructor.
+	 * @param capacity is an amount of latest events kept, rounded up to a power of two.
+	 * @param dumpDirectory is a directory for dumps written on game over, null if they are not needed.
+	 */
+	public FlightRecorder(int capacity, Path dumpDirectory) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		frames = new long[size];
+		types = new byte[size];
+		payloads = new int[size];
+		details = new byte[size];
+		mask = size - 1;
+		this.dumpDirectory = dumpDirectory;
+	}
+
+	private static Path dumpDirectoryFromSystemProperties() {
+		String directory = System.getProperty(DUMP_DIRECTORY_PROPERTY);
+		return directory == null || directory.isBlank() ? null : Path.of(directory);
+	}
+
+	/**
+	 * Getter
+	 * @return max amount of events kept.
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Getter
+	 * @return amount of events kept at the moment.
+	 */
+	public int size() {
+		return (int) Math.min(recorded, frames.length);
+	}
+
+	/**
+	 * Sets frame number stamped on the following events.
+	 * @param frame is a current game frame.
+	 */
+	public void beginFrame(long frame) {
+		currentFrame = frame;
+	}
+
+	/**
+	 * Records event of the current frame.
+	 * @param type of event.
+	 * @param payload is an event value, commonly a {@link CellId}.
+	 * @param detail is a small event value from 0 to 255, commonly an enum ordinal.
+	 */
+	public void record(EventType type, int payload, int detail) {
+		int slot = (int) (recorded & mask);
+		frames[slot] = currentFrame;
+		types[slot] = (byte) type.ordinal();
+		payloads[slot] = payload;
+		details[slot] = (byte) detail;
+		++recorded;
+	}
+
+	/**
+	 * Removes every event.
+	 */
+	public void clear() {
+		recorded = 0;
+		currentFrame = 0;
+	}
+
+	/**
+	 * Writes events from the oldest to the newest, one per line: frame, type, payload and detail.
+	 * Cell payloads are written as x:y.
+	 * @param writer to write events to.
+	 * @throws IOException if writing failed.
+	 */
+	public void dump(Writer writer) throws IOException {
+		int amount = size();
+		writer.write("# frame type payload detail, " + amount + " of " + recorded + " events\n");
+		for(long i = recorded - amount; i < recorded; i++) {
+			int slot = (int) (i & mask);
+			EventType type = EVENT_TYPES[types[slot]];
+			String payload = type == EventType.DIRECTION
+					? "-"
+					: CellId.x(payloads[slot]) + ":" + CellId.y(payloads[slot]);
+			writer.write(frames[slot] + " " + type + " " + payload + " " + Byte.toUnsignedInt(details[slot]) + "\n");
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Writes events to a file.
+	 * @param file to write events to, replaced if exists.
+	 * @throws IOException if writing failed.
+	 */
+	public void dump(Path file) throws IOException {
+		try(Writer writer = Files.newBufferedWriter(file)) {
+			dump(writer);
+		}
+	}
+
+	/**
+	 * Writes events to a new uniquely named file in dump directory, does nothing if directory is not set.
+	 * Failure is logged only, so game over handling is never broken by it.
+	 * @return written file or null.
+	 */
+	public Path dumpOnGameOver() {
+		if(dumpDirectory == null) return null;
+		try {
+			Files.createDirectories(dumpDirectory);
+			// Unique name, two game overs within the same millisecond must not overwrite each other.
+			Path file = Files.createTempFile(dumpDirectory, "snake-flight-" + System.currentTimeMillis() + "-", ".txt");
+			dump(file);
+			logger.log(Level.INFO, "Flight record written to {0}.", file);
+			return file;
+		}
+		catch (IOException e) {
+			logger.log(Level.WARNING, "Flight record was not written. " + e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
+			return null;
+		}
+	}
+}
@@ -3,6 +3,7 @@ package org.jeffersonairplane.model;
 import org.jeffersonairplane.viewmodel.Direction;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Model part of MVVM pattern.
@@ -15,10 +16,16 @@ public interface GameModel extends PowerUpTakenObservable {
 	void initializePowerUpManager();
 
     /**
-	 * Sets chance of creation for every power up type in the game.
+	 * Sets chance of creation for every power up type of this game only.
 	 */
 	void setPowerUpTypesCreationChances();
 	
+	/**
+	 * Sets source of randomness for the game.
+	 * @param random is a source of randomness, seeded source makes the game reproducible.
+	 */
+	void setRandom(RandomGenerator.SplittableGenerator random);
+
 	/**
 	 * Getter for snake instance from {@link org.jeffersonairplane.model.SnakeManager}
 	 * @return Snake instance.
@@ -116,6 +123,12 @@ public interface GameModel extends PowerUpTakenObservable {
 	 */
 	PowerUpManager getPowerUpManager();
 
+	/**
+	 * Getter
+	 * @return timings of frame phases.
+	 */
+	TickProfiler getTickProfiler();
+
 	/**
 	 * Runs one game frame.
 	 * @return true if snake collided with border or itself.
@@ -2,12 +2,14 @@ package org.jeffersonairplane.model;
 
 import lombok.*;
 import org.jeffersonairplane.*;
+import org.jeffersonairplane.jfr.GameTickEvent;
 import org.jeffersonairplane.viewmodel.Direction;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.logging.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Model part of MVVM pattern.
@@ -15,7 +17,7 @@ import java.util.logging.*;
  */
 public class GameModelImpl implements GameModel {
 	
-	@Getter @Setter
+	@Getter
 	private FieldDimension dimension;
 	@Getter
     private SnakeManager snakeManager;
@@ -25,6 +27,42 @@ public class GameModelImpl implements GameModel {
 	private long framesCounter = 0;
 	@Getter @Setter
 	private long score = 0;
+	@Getter
+	private OccupancyGrid occupancyGrid;
+	/**
+	 * Source of free blocks for power ups, power up manager gets its own stream split from it.
+	 */
+	@Getter
+	private RandomGenerator.SplittableGenerator random = new SplittableRandom();
+	/**
+	 * Game settings applied last, default config is loaded on first use if none was given.
+	 */
+	private GameConfig config;
+	/**
+	 * Source of reloaded settings, null if settings never change.
+	 */
+	private GameConfigSource configSource;
+	/**
+	 * Latest game events, written to a file on game over.
+	 */
+	@Getter
+	private FlightRecorder flightRecorder = new FlightRecorder(FLIGHT_RECORDER_CAPACITY);
+	/**
+	 * Timings of frame phases.
+	 */
+	@Getter @Setter
+	private TickProfiler tickProfiler = new TickProfiler();
+	/**
+	 * Snake direction of the last recorded step.
+	 */
+	private Direction recordedDirection;
+
+	private static final int FLIGHT_RECORDER_CAPACITY = 4096;
+
+	/**
+	 * Created once, so frames do not allocate a method reference.
+	 */
+	private final Supplier<Coordinate> freeCoordinateSupplier = this::getNewFreeCoordinate;
 
 	private final List<PowerUpTakenObserver> powerUpTakenObservers = new ArrayList<>();
 	
@@ -40,40 +78,161 @@ public class GameModelImpl implements GameModel {
         this.dimension = dimension;
         this.snakeManager = snakeManager;
 		this.powerUpManager = powerUpManager;
+		rebuildOccupancyGrid();
 		logger.log(Level.FINE, "Model created.");
     }
+
+	/**
+	 * Constructor with a particular source of randomness, seeded source makes the game reproducible.
+	 * @param dimension contains field width and height in blocks (not pixels).
+	 * @param snakeManager control snake {@link org.jeffersonairplane.model.SnakeManager}.
+	 * @param powerUpManager manages power ups creation, lifecycle and death.
+	 * @param random is a source of randomness of the game.
+	 */
+	public GameModelImpl(FieldDimension dimension, SnakeManager snakeManager, PowerUpManager powerUpManager, RandomGenerator.SplittableGenerator random) {
+		this(dimension, snakeManager, powerUpManager);
+		setRandom(random);
+	}
 	
 	/**
 	 * No args constructor.
-	 * Further initialization needed.
+	 * Further initialization needed, default {@link GameConfig} is used.
 	 */
 	public GameModelImpl() {}
 
+	/**
+	 * Constructor.
+	 * Further initialization needed.
+	 * @param config is a game settings used to initialize snake and power ups.
+	 */
+	public GameModelImpl(GameConfig config) {
+		if(config == null) throw new NullPointerException("Game config is null");
+		this.config = config;
+	}
+
+	/**
+	 * Constructor.
+	 * Further initialization needed.
+	 * Snapshots published by source are applied on the next frame.
+	 * @param configSource is a source of game settings which may be reloaded.
+	 */
+	public GameModelImpl(GameConfigSource configSource) {
+		this(configSource.get());
+		this.configSource = configSource;
+	}
+
+	/**
+	 * Getter
+	 * @return game settings.
+	 */
+	public GameConfig getConfig() {
+		if(config == null) config = GameConfig.getDefault();
+		return config;
+	}
+
+	/**
+	 * Applies the latest settings snapshot if config source published a new one.
+	 * Snake speed, power up creation delays and chances are changed, playing field size is kept until the next game.
+	 */
+	private void applyConfigChanges() {
+		if(configSource == null) return;
+		GameConfig latest = configSource.get();
+		if(latest == config) return;
+		config = latest;
+		if(snakeManager != null) snakeManager.setSnakeMovementRhythm(latest.getSnakeMoveDelay());
+		if(powerUpManager != null) {
+			powerUpManager.setMinPowerUpCreationDelay(latest.getPowerUpCreationDelayMin());
+			powerUpManager.setMaxPowerUpCreationDelay(latest.getPowerUpCreationDelayMax());
+		}
+		setPowerUpTypesCreationChances();
+		logger.log(Level.INFO, "Reloaded game config applied.");
+	}
+
+	/**
+	 * Setter for {@link org.jeffersonairplane.model.FieldDimension} instance.
+	 * Occupancy grid is resized for the new field.
+	 * @param dimension is a playing field width and height in blocks.
+	 */
+	@Override
+	public void setDimension(FieldDimension dimension) {
+		this.dimension = dimension;
+		rebuildOccupancyGrid();
+	}
+
+	/**
+	 * Sets source of randomness for the game, power up manager gets an independent stream split from it.
+	 * @param random is a source of randomness, seeded source makes the game reproducible.
+	 */
+	@Override
+	public void setRandom(RandomGenerator.SplittableGenerator random) {
+		if(random == null) throw new NullPointerException("Random generator is null");
+		this.random = random;
+		if(powerUpManager != null) powerUpManager.setRandom(random.split());
+	}
+
+	/**
+	 * Setter, power up manager records spawns to the same recorder.
+	 * @param flightRecorder is a recorder of the latest game events.
+	 */
+	public void setFlightRecorder(FlightRecorder flightRecorder) {
+		if(flightRecorder == null) throw new NullPointerException("Flight recorder is null");
+		this.flightRecorder = flightRecorder;
+		if(powerUpManager != null) powerUpManager.setFlightRecorder(flightRecorder);
+	}
+
+	/**
+	 * Marks every snake block and power up on the occupancy grid and attaches grid to them,
+	 * so they keep it up to date on every change.
+	 * Does nothing until field dimension is set.
+	 */
+	private void rebuildOccupancyGrid() {
+		if(dimension == null) return;
+		if(occupancyGrid == null
+				|| occupancyGrid.getWidth() != dimension.blocksAmountXAxis()
+				|| occupancyGrid.getHeight() != dimension.blocksAmountYAxis()) {
+			occupancyGrid = new OccupancyGrid(dimension);
+		}
+		else {
+			occupancyGrid.clear();
+		}
+		if(snakeManager != null) {
+			Snake snake = snakeManager.getSnake();
+			snake.setOccupancyGrid(occupancyGrid);
+			for(int i = 0; i < snake.size(); i++) {
+				int cell = snake.cellAt(i);
+				occupancyGrid.occupySnakeBlock(CellId.x(cell), CellId.y(cell));
+			}
+		}
+		if(powerUpManager != null) {
+			powerUpManager.setOccupancyGrid(occupancyGrid);
+			powerUpManager.setFlightRecorder(flightRecorder);
+			for(PowerUp powerUp: powerUpManager.getPowerUps()) {
+				occupancyGrid.occupy(powerUp.getPoint());
+			}
+		}
+		logger.log(Level.FINE, "Occupancy grid rebuilt.");
+	}
+
 	/**
 	 * Initialization of snake manager and snake blocks filling.
 	 * @return true if created, false otherwise.
 	 */
 	@Override
 	public boolean initializeSnakeManager() {
-		try {
-			if(dimension != null) {
-				Properties props = PropertiesLoader.getProperties();
-				snakeManager = new SnakeManagerImpl();
-				snakeManager.fillSnake(
-						Integer.parseInt(props.getProperty("initial_snake_size")),
-						new Coordinate(dimension.blocksAmountXAxis() / 2, dimension.blocksAmountYAxis() / 2),
-						Direction.RIGHT,
-						dimension.blocksAmountXAxis(),
-						dimension.blocksAmountYAxis());
-				logger.log(Level.FINE, "Snake manager initialized. Snake created.");
-				return true;
-			}
-			return false;
-		}
-		catch (IOException e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
+		if(dimension != null) {
+			GameConfig settings = getConfig();
+			snakeManager = new SnakeManagerImpl(settings);
+			snakeManager.fillSnake(
+					settings.getInitialSnakeSize(),
+					new Coordinate(dimension.blocksAmountXAxis() / 2, dimension.blocksAmountYAxis() / 2),
+					Direction.RIGHT,
+					dimension.blocksAmountXAxis(),
+					dimension.blocksAmountYAxis());
+			rebuildOccupancyGrid();
+			logger.log(Level.FINE, "Snake manager initialized. Snake created.");
+			return true;
 		}
+		return false;
 	}
 
 	/**
@@ -81,34 +240,31 @@ public class GameModelImpl implements GameModel {
 	 */
 	@Override
 	public void initializePowerUpManager() {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-
-			powerUpManager = new PowerUpManagerImpl(
-					Integer.parseInt(props.getProperty("pu_number_limit")),
-					Integer.parseInt(props.getProperty("pu_creation_delay_min")),
-					Integer.parseInt(props.getProperty("pu_creation_delay_max")));
-			logger.log(Level.FINE, "Power Up manager created.");
-		}
-		catch (IOException e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+		GameConfig settings = getConfig();
+		powerUpManager = new PowerUpManagerImpl(
+				settings.getPowerUpNumberLimit(),
+				settings.getPowerUpCreationDelayMin(),
+				settings.getPowerUpCreationDelayMax(),
+				random.split());
+		setPowerUpTypesCreationChances();
+		rebuildOccupancyGrid();
+		logger.log(Level.FINE, "Power Up manager created.");
 	}
 
 	/**
-	 * Sets chance of creation for every power up type in the game.
+	 * Sets chance of creation for every power up type of this game from the current settings snapshot.
+	 * Weights belong to power up manager, {@link PowerUpTypes} is not changed, so parallel games never affect each other.
+	 * Does nothing until power up manager exists, it gets chances on initialization.
 	 */
 	@Override
 	public void setPowerUpTypesCreationChances() {
+		if(powerUpManager == null) return;
 		try {
-			Properties props = PropertiesLoader.getProperties();
-			PowerUpTypes.APPLE.setCreationChance(
-					Integer.parseInt(props.getProperty("apple_lower_limit")),
-					Integer.parseInt(props.getProperty("apple_higher_limit")));
-			PowerUpTypes.TAILCUTTER.setCreationChance(
-					Integer.parseInt(props.getProperty("tail_cutter_lower_limit")),
-					Integer.parseInt(props.getProperty("tail_cutter_higher_limit")));
+			GameConfig settings = getConfig();
+			double[] weights = new double[PowerUpTypes.values().length];
+			weights[PowerUpTypes.APPLE.ordinal()] = chanceRangeWeight(settings.getAppleLowerLimit(), settings.getAppleHigherLimit());
+			weights[PowerUpTypes.TAILCUTTER.ordinal()] = chanceRangeWeight(settings.getTailCutterLowerLimit(), settings.getTailCutterHigherLimit());
+			powerUpManager.setPowerUpTypeWeights(weights);
 			logger.log(Level.FINE, "Creation chances set.");
 		}
 		catch (Exception e) {
@@ -116,13 +272,20 @@ public class GameModelImpl implements GameModel {
 		}
 	}
 	
+	/**
+	 * Weight of a chance range from 0 to 100, the same as {@link PowerUpTypes#setCreationChance} gives.
+	 */
+	private static double chanceRangeWeight(int min, int max) {
+		return max - min + 1;
+	}
+
 	/**
 	 * Getter for snake movement frame rate.
 	 * @return snake movement frame rate.
 	 */
 	@Override
 	public int getSnakeMovementRhythm() {
-		logger.log(Level.FINE, "Getter. Snake Rhythm: {0}", snakeManager.getSnakeMovementRhythm());
+		if(Trace.ENABLED) logger.log(Level.FINE, "Getter. Snake Rhythm: {0}", snakeManager.getSnakeMovementRhythm());
 		return snakeManager.getSnakeMovementRhythm();
 	}
 	
@@ -132,7 +295,7 @@ public class GameModelImpl implements GameModel {
 	 */
 	@Override
 	public void setSnakeMovementRhythm(int rhythm) {
-		logger.log(Level.FINE, "Setter. Arg: {0}", rhythm);
+		if(Trace.ENABLED) logger.log(Level.FINE, "Setter. Arg: {0}", rhythm);
         snakeManager.setSnakeMovementRhythm(rhythm);
     }
 	
@@ -142,7 +305,7 @@ public class GameModelImpl implements GameModel {
 	 */
 	@Override
 	public Snake getSnake() {
-		logger.log(Level.FINE, "Getter: Snake instance.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Getter: Snake instance.");
 		return snakeManager.getSnake();
 	}
 
@@ -152,21 +315,27 @@ public class GameModelImpl implements GameModel {
 	 */
 	@Override
 	public List<PowerUp> getPowerUps() {
-		logger.log(Level.FINE, "Getter: Power Ups collection.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Getter: Power Ups collection.");
 		return powerUpManager.getPowerUps();
 	}
 	
 	/**
 	 * Check if snake collided with a play field borders or itself.
-	 * Commonly it is a game over check.
+	 * Commonly it is a game over check, so collision is recorded and flight record is written.
 	 * @return true if collided.
 	 */
     @Override
     public boolean checkCollisions() {
         try {
-			logger.log(Level.FINE, "Checking collisions.");
-            return snakeManager.snakeCollideWithBorders(dimension.blocksAmountXAxis(), dimension.blocksAmountYAxis()) ||
-					snakeManager.snakeSelfCollide();
+			if(Trace.ENABLED) logger.log(Level.FINE, "Checking collisions.");
+			boolean borderCollision = snakeManager.snakeCollideWithBorders(dimension.blocksAmountXAxis(), dimension.blocksAmountYAxis());
+			if(borderCollision || snakeManager.snakeSelfCollide()) {
+				flightRecorder.record(FlightRecorder.EventType.COLLISION, snakeManager.getSnake().headCell(),
+						borderCollision ? FlightRecorder.BORDER_COLLISION : FlightRecorder.SELF_COLLISION);
+				flightRecorder.dumpOnGameOver();
+				return true;
+			}
+			return false;
         }
         catch(NullPointerException e) {
             logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
@@ -182,7 +351,7 @@ public class GameModelImpl implements GameModel {
      */
 	@Override
 	public boolean changeSnakeDirection(Direction newDirection) {
-		logger.log(Level.FINE, "Changing snake direction.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Changing snake direction.");
 		return snakeManager.changeSnakeDirection(newDirection);
 	}
 
@@ -191,7 +360,7 @@ public class GameModelImpl implements GameModel {
 	 */
 	@Override
 	public void snakeMove() {
-		logger.log(Level.FINE, "Snake is moving.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Snake is moving.");
 		snakeManager.snakeStep();
 	}
 	
@@ -205,88 +374,132 @@ public class GameModelImpl implements GameModel {
 		if(powerUp == null) return false;
 		snakeManager.changeSnakeState(powerUp::influence);
 		powerUpManager.removePowerUp(powerUp);
-		logger.log(Level.FINE, "Power up {0} applied on snake.", powerUp.getClass());
+		if(Trace.ENABLED) logger.log(Level.FINE, "Power up {0} applied on snake.", powerUp.getClass());
 		return true;
     }
 	
 	/**
 	 * Coordinate is free if there is no snake or power up exist on it.
+	 * Points on the playing field are checked by occupancy grid, points outside it by power up index and snake iteration.
 	 * @return true if no game element on particular point at the moment.
 	 */
 	public boolean coordinateIsFree(Coordinate point) {
-		logger.log(Level.FINE, "Coordinate is free -> power ups iteration.");
-		for(PowerUp pu: powerUpManager.getPowerUps()) {
-			if(pu.getPoint().equals(point)) return false;
+		if(occupancyGrid != null && occupancyGrid.contains(point)) {
+			return occupancyGrid.isFree(point);
 		}
-		logger.log(Level.FINE, "Coordinate is free -> Snake iteration.");
-		for(Coordinate snakeBlock: snakeManager.getSnake().getSnakeBlocks()) {
-			if(snakeBlock.equals(point)) return false;
+		if(point == null) return true;
+		if(powerUpManager.powerUpAt(point.xCoord(), point.yCoord()) != null) return false;
+		if(Trace.ENABLED) logger.log(Level.FINE, "Coordinate is free -> Snake iteration.");
+		Snake snake = snakeManager.getSnake();
+		int pointCell = CellId.of(point);
+		for(int i = 0; i < snake.size(); i++) {
+			if(snake.cellAt(i) == pointCell) return false;
 		}
 		return true;
 	}
 	
 	/**
-	 * Coordinate is valid if there is no snake or power up exist on it.
-	 * @return coordinate of random free block on the playing field.
+	 * Picks random free block on the playing field, every free block has the same chance.
+	 * @return coordinate of random free block on the playing field or null if playing field is full.
 	 */
 	public Coordinate getNewFreeCoordinate() {
-		Random rnd = new Random();
-		boolean pointIsFree = false;
-		Coordinate point = null;
-		logger.log(Level.FINE, "Get new free coordinate -> iteration started.");
-		while(!pointIsFree) {
-			point = new Coordinate(
-					rnd.nextInt(dimension.blocksAmountXAxis()) + 1,
-					rnd.nextInt(dimension.blocksAmountYAxis()) + 1);
-			pointIsFree = coordinateIsFree(point);
+		Coordinate point = occupancyGrid.randomFreeBlock(random);
+		if(point == null) {
+			if(Trace.ENABLED) logger.log(Level.FINE, "Get new free coordinate -> playing field is full.");
+			return null;
 		}
-		logger.log(Level.FINE, "Get new free coordinate -> iteration finished. Point found: x: {0}, y: {1}", new Object[]{point.xCoord(), point.yCoord()});
+		if(Trace.ENABLED) logger.log(Level.FINE, "Get new free coordinate -> point found: x: {0}, y: {1}", new Object[]{point.xCoord(), point.yCoord()});
 		return point;
 	}
 
 	/**
 	 * Runs one game frame.
+	 * Frame is reported as {@link GameTickEvent} to Java Flight Recorder if the event is enabled.
 	 * @return true if snake collided with border or itself.
 	 */
 	@Override
 	public boolean oneFrameGameAction() {
-		logger.log(Level.FINE, "New frame started in model.");
+		GameTickEvent event = new GameTickEvent();
+		event.begin();
+		boolean collided = runFrame();
+		if(event.shouldCommit()) {
+			event.frame = framesCounter;
+			event.snakeLength = snakeManager.getSnake().size();
+			event.powerUps = powerUpManager.getPowerUps().size();
+			event.gameOver = collided;
+			event.commit();
+		}
+		return collided;
+	}
+
+	private boolean runFrame() {
+		if(Trace.ENABLED) logger.log(Level.FINE, "New frame started in model.");
 		if(framesCounter == Long.MAX_VALUE) {
 			framesCounter = 0;
-			logger.log(Level.FINE, "Frames counter nullified");
+			if(Trace.ENABLED) logger.log(Level.FINE, "Frames counter nullified");
 		}
 		else ++framesCounter;
+		flightRecorder.beginFrame(framesCounter);
+		applyConfigChanges();
 
+		long mark = tickProfiler.start();
 		powerUpManager.countdownWaitingPowerUps();
-		powerUpManager.createPowerUps(this::getNewFreeCoordinate);
+		mark = tickProfiler.lap(TickProfiler.Phase.COUNTDOWN, mark);
+		powerUpManager.createPowerUps(freeCoordinateSupplier);
+		mark = tickProfiler.lap(TickProfiler.Phase.CREATE, mark);
 		powerUpManager.runNewPowerUpCountdown();
-		logger.log(Level.FINE, "Power Ups has been run.");
+		mark = tickProfiler.lap(TickProfiler.Phase.NEW_COUNTDOWN, mark);
+		if(Trace.ENABLED) logger.log(Level.FINE, "Power Ups has been run.");
 		
+		boolean collided = false;
 		if(framesCounter % snakeManager.getSnakeMovementRhythm() == 0) {
 			snakeManager.setForbiddenSnakeDirection();
-			logger.log(Level.FINE, "Snake moving.");
+			if(Trace.ENABLED) logger.log(Level.FINE, "Snake moving.");
 			snakeMove();
-			Coordinate headPoint = snakeManager.getSnake().getSnakeBlocks().getLast();
-			var powerUp = powerUpManager.getPowerUpByPoint(headPoint);
-			if(powerUp.isPresent()) {
+			Snake snake = snakeManager.getSnake();
+			int head = snake.headCell();
+			if(snake.getDirection() != recordedDirection) {
+				recordedDirection = snake.getDirection();
+				flightRecorder.record(FlightRecorder.EventType.DIRECTION, head, recordedDirection.ordinal());
+			}
+			flightRecorder.record(FlightRecorder.EventType.STEP, head, 0);
+			mark = tickProfiler.lap(TickProfiler.Phase.MOVE, mark);
+			PowerUp powerUp = powerUpManager.powerUpAt(CellId.x(head), CellId.y(head));
+			if(powerUp != null) {
+				flightRecorder.record(FlightRecorder.EventType.PICKUP, head, powerUpTypeOrdinal(powerUp));
 				++score;
-				notifyPowerUpTakenObservers(powerUp.get());
-				powerUpEffect(powerUp.get());
-				logger.log(Level.FINE, "Power up applied.");
+				notifyPowerUpTakenObservers(powerUp);
+				powerUpEffect(powerUp);
+				if(Trace.ENABLED) logger.log(Level.FINE, "Power up applied.");
 			}
-			return checkCollisions();
+			collided = checkCollisions();
+			tickProfiler.lap(TickProfiler.Phase.PICKUP_AND_COLLISION, mark);
 		}
-		return false;
+		tickProfiler.frameDone();
+		return collided;
 	}
 	
+	private static int powerUpTypeOrdinal(PowerUp powerUp) {
+		if(powerUp instanceof Apple) return PowerUpTypes.APPLE.ordinal();
+		if(powerUp instanceof TailCutter) return PowerUpTypes.TAILCUTTER.ordinal();
+		return PowerUpTypes.values().length;
+	}
+
 	/**
      * Resets state to initial.
      */
 	public void resetState() {
 		framesCounter = 0;
 		score = 0;
+		flightRecorder.clear();
+		recordedDirection = null;
 		snakeManager.resetState();
 		powerUpManager.resetState();
+		if(configSource != null) {
+			applyConfigChanges();
+			snakeManager.setSnakeMovementRhythm(config.getSnakeMoveDelay());
+		}
+		rebuildOccupancyGrid();
 		logger.log(Level.FINE, "Model state reset.");
 	}
 	
@@ -322,6 +535,6 @@ public class GameModelImpl implements GameModel {
 		for(var obs: powerUpTakenObservers) {
 			obs.powerUpTakenUpdate(powerUp);
 		}
-		logger.log(Level.FINE, "PowerUpTakenObservers notified.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "PowerUpTakenObservers notified.");
 	}
 }
@@ -0,0 +1,100 @@
+package org.jeffersonairplane.model;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of non negative values, commonly nanoseconds.
+ * Every power of two range is split into 16 linear buckets, so relative error of percentiles is below 1/16.
+ * Buckets are preallocated, recording is a few arithmetic operations and one array increment.
+ * Not thread safe, reading while other thread records gives approximate values only.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long max;
+
+	/**
+	 * Records one value.
+	 * @param value to record, negative values are recorded as zero.
+	 */
+	public void record(long value) {
+		long recorded = Math.max(value, 0);
+		++counts[bucketOf(recorded)];
+		++count;
+		if(recorded > max) max = recorded;
+	}
+
+	/**
+	 * Getter
+	 * @return amount of recorded values.
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Getter
+	 * @return the greatest recorded value, 0 if nothing is recorded.
+	 */
+	public long max() {
+		return max;
+	}
+
+	/**
+	 * Finds value not less than the percentile of recorded values.
+	 * Result is an upper bound of the bucket, so it is at most 1/16 greater than the exact one and never greater than max.
+	 * @param percentile from 0 to 100.
+	 * @return value at percentile, 0 if nothing is recorded.
+	 */
+	public long valueAtPercentile(double percentile) {
+		if(count == 0) return 0;
+		double bounded = Math.min(Math.max(percentile, 0), 100);
+		long rank = Math.max((long) Math.ceil(bounded / 100 * count), 1);
+		long seen = 0;
+		for(int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen += counts[bucket];
+			if(seen >= rank) return Math.min(highestValueOf(bucket), max);
+		}
+		return max;
+	}
+
+	/**
+	 * Adds values recorded by other histogram.
+	 * @param other histogram to add.
+	 */
+	public void add(LatencyHistogram other) {
+		for(int bucket = 0; bucket < BUCKETS; bucket++) {
+			counts[bucket] += other.counts[bucket];
+		}
+		count += other.count;
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Removes every recorded value.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		max = 0;
+	}
+
+	private static int bucketOf(long value) {
+		if(value < SUB_BUCKETS) return (int) value;
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		return SUB_BUCKETS + shift * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	private static long highestValueOf(int bucket) {
+		if(bucket < SUB_BUCKETS) return bucket;
+		int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+		long lowest = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
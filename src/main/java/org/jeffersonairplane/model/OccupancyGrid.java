@@ -0,0 +1,223 @@
+package org.jeffersonairplane.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Counts game elements (snake blocks and power ups) standing on every block of the playing field.
+ * Block is free if nothing stands on it, so check costs the same for any snake length.
+ * Free blocks are also kept in an indexed list, so random free block is picked in constant time at any fill level.
+ * Snake blocks are counted separately too, so snake self collision is checked on the head block only.
+ * Blocks are numbered from 1 to width and from 1 to height, points outside the field are not tracked.
+ */
+public class OccupancyGrid {
+
+	@Getter
+	private final int width;
+	@Getter
+	private final int height;
+	private final int[] occupants;
+	/**
+	 * Snake blocks on every block, may be more than one when snake grows or bites itself.
+	 */
+	private final int[] snakeBlocks;
+	/**
+	 * First freeBlocksAmount elements are indexes of free blocks in any order.
+	 */
+	private final int[] freeBlocks;
+	/**
+	 * Position of every free block in freeBlocks array.
+	 */
+	private final int[] freeBlockPositions;
+	@Getter
+	private int freeBlocksAmount;
+
+	/**
+	 * Constructor.
+	 * @param dimension is a playing field width and height in blocks.
+	 */
+	public OccupancyGrid(FieldDimension dimension) {
+		if(dimension == null) throw new NullPointerException("Field dimension is null");
+		if(dimension.blocksAmountXAxis() < 1 || dimension.blocksAmountYAxis() < 1) {
+			throw new IllegalArgumentException("Field dimension should be positive: " + dimension);
+		}
+		width = dimension.blocksAmountXAxis();
+		height = dimension.blocksAmountYAxis();
+		occupants = new int[width * height];
+		snakeBlocks = new int[width * height];
+		freeBlocks = new int[width * height];
+		freeBlockPositions = new int[width * height];
+		clear();
+	}
+
+	/**
+	 * Checks if point is inside the playing field.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 * @return true if block is tracked by grid.
+	 */
+	public boolean contains(int x, int y) {
+		return x >= 1 && x <= width && y >= 1 && y <= height;
+	}
+
+	/**
+	 * Checks if point is inside the playing field.
+	 * @param point to check.
+	 * @return true if block is tracked by grid.
+	 */
+	public boolean contains(Coordinate point) {
+		return point != null && contains(point.xCoord(), point.yCoord());
+	}
+
+	/**
+	 * One more game element stands on the block.
+	 * Points outside the field are ignored.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 */
+	public void occupy(int x, int y) {
+		if(!contains(x, y)) return;
+		int index = index(x, y);
+		if(occupants[index]++ == 0) removeFreeBlock(index);
+	}
+
+	/**
+	 * One more game element stands on the block.
+	 * @param point of the block.
+	 */
+	public void occupy(Coordinate point) {
+		if(point == null) return;
+		occupy(point.xCoord(), point.yCoord());
+	}
+
+	/**
+	 * One game element left the block.
+	 * Points outside the field and already free blocks are ignored.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 */
+	public void release(int x, int y) {
+		if(!contains(x, y)) return;
+		int index = index(x, y);
+		if(occupants[index] == 0) return;
+		if(--occupants[index] == 0) addFreeBlock(index);
+	}
+
+	/**
+	 * One game element left the block.
+	 * @param point of the block.
+	 */
+	public void release(Coordinate point) {
+		if(point == null) return;
+		release(point.xCoord(), point.yCoord());
+	}
+
+	/**
+	 * Snake block stands on the block.
+	 * Points outside the field are ignored.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 */
+	public void occupySnakeBlock(int x, int y) {
+		if(!contains(x, y)) return;
+		++snakeBlocks[index(x, y)];
+		occupy(x, y);
+	}
+
+	/**
+	 * Snake block left the block.
+	 * Points outside the field and blocks without snake are ignored.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 */
+	public void releaseSnakeBlock(int x, int y) {
+		if(!contains(x, y)) return;
+		int index = index(x, y);
+		if(snakeBlocks[index] == 0) return;
+		--snakeBlocks[index];
+		release(x, y);
+	}
+
+	/**
+	 * Counts snake blocks standing on the block.
+	 * @param x is X-axis coordinate of block, should be inside the field.
+	 * @param y is Y-axis coordinate of block, should be inside the field.
+	 * @return amount of snake blocks.
+	 */
+	public int snakeBlocksAt(int x, int y) {
+		return snakeBlocks[index(x, y)];
+	}
+
+	/**
+	 * Checks if nothing stands on the block.
+	 * @param x is X-axis coordinate of block, should be inside the field.
+	 * @param y is Y-axis coordinate of block, should be inside the field.
+	 * @return true if block is free.
+	 */
+	public boolean isFree(int x, int y) {
+		return occupants[index(x, y)] == 0;
+	}
+
+	/**
+	 * Checks if nothing stands on the block.
+	 * @param point of the block, should be inside the field.
+	 * @return true if block is free.
+	 */
+	public boolean isFree(Coordinate point) {
+		return isFree(point.xCoord(), point.yCoord());
+	}
+
+	/**
+	 * Checks if every block is occupied.
+	 * @return true if there is no free block left.
+	 */
+	public boolean isFull() {
+		return freeBlocksAmount == 0;
+	}
+
+	/**
+	 * Picks one of free blocks, every free block has the same chance.
+	 * @param random is a source of randomness.
+	 * @return coordinate of free block or null if playing field is full.
+	 */
+	public Coordinate randomFreeBlock(RandomGenerator random) {
+		if(freeBlocksAmount == 0) return null;
+		int index = freeBlocks[random.nextInt(freeBlocksAmount)];
+		return new Coordinate(index % width + 1, index / width + 1);
+	}
+
+	/**
+	 * Makes every block free.
+	 */
+	public void clear() {
+		Arrays.fill(occupants, 0);
+		Arrays.fill(snakeBlocks, 0);
+		for(int i = 0; i < freeBlocks.length; i++) {
+			freeBlocks[i] = i;
+			freeBlockPositions[i] = i;
+		}
+		freeBlocksAmount = freeBlocks.length;
+	}
+
+	private int index(int x, int y) {
+		return (y - 1) * width + (x - 1);
+	}
+
+	private void addFreeBlock(int index) {
+		freeBlocks[freeBlocksAmount] = index;
+		freeBlockPositions[index] = freeBlocksAmount;
+		++freeBlocksAmount;
+	}
+
+	/**
+	 * Swaps block with the last free one and shortens the list.
+	 */
+	private void removeFreeBlock(int index) {
+		int position = freeBlockPositions[index];
+		int last = freeBlocks[--freeBlocksAmount];
+		freeBlocks[position] = last;
+		freeBlockPositions[last] = position;
+	}
+}
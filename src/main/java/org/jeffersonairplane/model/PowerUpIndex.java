@@ -0,0 +1,179 @@
+package org.jeffersonairplane.model;
+
+import java.util.Arrays;
+
+/**
+ * Finds power ups by block without iteration over all power ups.
+ * Open addressing hash table keyed by packed cell id (see {@link org.jeffersonairplane.model.CellId}) with linear probing.
+ * Few power ups may stand on the same block, lookup returns the first one found.
+ * Table grows twice when it is half full, so lookup stays short for any number of power ups.
+ * Every entry also keeps position of the power up in owner's list, so the list can swap-remove it without search.
+ */
+public class PowerUpIndex {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] keys = new int[INITIAL_CAPACITY];
+	/**
+	 * Null value marks empty slot.
+	 */
+	private PowerUp[] values = new PowerUp[INITIAL_CAPACITY];
+	private int[] positions = new int[INITIAL_CAPACITY];
+	private int size;
+
+	/**
+	 * Getter
+	 * @return amount of power ups indexed.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds power up at its point, position is the amount of power ups indexed before.
+	 * @param powerUp to add, should have a point.
+	 */
+	public void add(PowerUp powerUp) {
+		add(powerUp, size);
+	}
+
+	/**
+	 * Adds power up at its point.
+	 * @param powerUp to add, should have a point.
+	 * @param position of power up in owner's list.
+	 */
+	public void add(PowerUp powerUp, int position) {
+		if(size * 2 >= values.length) grow();
+		insert(CellId.of(powerUp.getPoint()), powerUp, position);
+		++size;
+	}
+
+	/**
+	 * Finds power up on the block.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 * @return power up on the block or null if there is no one.
+	 */
+	public PowerUp get(int x, int y) {
+		int key = CellId.of(x, y);
+		int mask = values.length - 1;
+		for(int slot = hash(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+			if(keys[slot] == key) return values[slot];
+		}
+		return null;
+	}
+
+	/**
+	 * Finds position stored for exactly this power up instance.
+	 * @param powerUp to find.
+	 * @return position in owner's list or -1 if power up is not indexed.
+	 */
+	public int positionOf(PowerUp powerUp) {
+		int slot = slotOf(powerUp);
+		return slot < 0 ? -1 : positions[slot];
+	}
+
+	/**
+	 * Changes position stored for exactly this power up instance.
+	 * @param powerUp to update.
+	 * @param position new position in owner's list.
+	 * @return true if power up is indexed.
+	 */
+	public boolean setPosition(PowerUp powerUp, int position) {
+		int slot = slotOf(powerUp);
+		if(slot < 0) return false;
+		positions[slot] = position;
+		return true;
+	}
+
+	/**
+	 * Removes exactly this power up instance.
+	 * @param powerUp to remove.
+	 * @return true if power up was indexed.
+	 */
+	public boolean remove(PowerUp powerUp) {
+		return removeAndGetPosition(powerUp) >= 0;
+	}
+
+	/**
+	 * Removes exactly this power up instance.
+	 * @param powerUp to remove.
+	 * @return position the power up had in owner's list or -1 if it was not indexed.
+	 */
+	public int removeAndGetPosition(PowerUp powerUp) {
+		int slot = slotOf(powerUp);
+		if(slot < 0) return -1;
+		int position = positions[slot];
+		deleteSlot(slot);
+		--size;
+		return position;
+	}
+
+	/**
+	 * Removes all power ups, keeps table capacity.
+	 */
+	public void clear() {
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private int slotOf(PowerUp powerUp) {
+		if(powerUp == null || powerUp.getPoint() == null) return -1;
+		int key = CellId.of(powerUp.getPoint());
+		int mask = values.length - 1;
+		for(int slot = hash(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+			if(keys[slot] == key && values[slot] == powerUp) return slot;
+		}
+		return -1;
+	}
+
+	/**
+	 * Shifts following elements of the probe chain back, so lookups never need tombstones.
+	 */
+	private void deleteSlot(int slot) {
+		int mask = values.length - 1;
+		int empty = slot;
+		for(int next = (slot + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+			int home = hash(keys[next]) & mask;
+			// Element may move to the empty slot only if its home is not between empty slot and its current slot.
+			if(((next - home) & mask) >= ((next - empty) & mask)) {
+				keys[empty] = keys[next];
+				values[empty] = values[next];
+				positions[empty] = positions[next];
+				empty = next;
+			}
+		}
+		values[empty] = null;
+	}
+
+	private void insert(int key, PowerUp powerUp, int position) {
+		int mask = values.length - 1;
+		int slot = hash(key) & mask;
+		while(values[slot] != null) {
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = powerUp;
+		positions[slot] = position;
+	}
+
+	private void grow() {
+		int[] oldKeys = keys;
+		PowerUp[] oldValues = values;
+		int[] oldPositions = positions;
+		keys = new int[oldKeys.length * 2];
+		values = new PowerUp[oldValues.length * 2];
+		positions = new int[oldPositions.length * 2];
+		for(int i = 0; i < oldValues.length; i++) {
+			if(oldValues[i] != null) insert(oldKeys[i], oldValues[i], oldPositions[i]);
+		}
+	}
+
+	/**
+	 * Mixes bits of cell id, neighbour blocks differ in low bits only.
+	 */
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
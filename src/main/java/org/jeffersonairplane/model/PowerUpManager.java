@@ -1,9 +1,9 @@
 package org.jeffersonairplane.model;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 public interface PowerUpManager {
     /**
@@ -14,9 +14,22 @@ public interface PowerUpManager {
 
     /**
      * Getter for power ups waiting for creation.
-     * @return map of power ups waiting for creation.
+     * @return number of power ups scheduled but not created yet.
      */
-    Map<PowerUpTypes, List<Integer>> getPowerUpCreationCountdowns();
+    int getScheduledPowerUpsNumber();
+
+    /**
+     * Counts frames until the nearest waiting power up created.
+     * @return amount of frames or -1 if no power up is waiting.
+     */
+    int framesUntilNextPowerUp();
+
+    /**
+     * Schedules power up creation after a delay.
+     * @param type particular type of PowerUp to create.
+     * @param delay in frames until power up created.
+     */
+    void schedulePowerUp(PowerUpTypes type, int delay);
 
     /**
      * Getter for power ups waiting for creation number.
@@ -42,6 +55,48 @@ public interface PowerUpManager {
      */
     void setPowerUpNumberLimit(int limit);
 
+    /**
+     * Setter
+     * @param delay is a min delay until power up created in frames.
+     */
+    void setMinPowerUpCreationDelay(int delay);
+
+    /**
+     * Setter
+     * @param delay is a max delay until power up created in frames.
+     */
+    void setMaxPowerUpCreationDelay(int delay);
+
+    /**
+     * Getter
+     * @return playing field blocks occupation, null if power ups are not placed on a field.
+     */
+    OccupancyGrid getOccupancyGrid();
+
+    /**
+     * Setter
+     * @param occupancyGrid is a playing field blocks occupation to mark power ups on.
+     */
+    void setOccupancyGrid(OccupancyGrid occupancyGrid);
+
+    /**
+     * Getter
+     * @return recorder of power up spawns, null if spawns are not recorded.
+     */
+    FlightRecorder getFlightRecorder();
+
+    /**
+     * Setter
+     * @param flightRecorder is a recorder of power up spawns.
+     */
+    void setFlightRecorder(FlightRecorder flightRecorder);
+
+    /**
+     * Setter
+     * @param random is a source of randomness for power up types and creation delays.
+     */
+    void setRandom(RandomGenerator random);
+
     /**
      * One frame passed for all power ups waiting for creation.
      * Leave implementation empty if you do not use creation delays.
@@ -58,10 +113,21 @@ public interface PowerUpManager {
 
     /**
      * Creates one or few {@link org.jeffersonairplane.model.PowerUp} instance in the game.
-     * @param coordinateSupplier provide points for power ups created.
+     * @param coordinateSupplier provide points for power ups created, returns null if there is no free point.
      */
     void createPowerUps(Supplier<Coordinate> coordinateSupplier);
 
+    /**
+     * Rereads creation weights of every {@link org.jeffersonairplane.model.PowerUpTypes} used to choose new power up type.
+     */
+    void updatePowerUpTypeWeights();
+
+    /**
+     * Sets creation weights used by this manager only, {@link org.jeffersonairplane.model.PowerUpTypes} is not changed.
+     * @param weights relative chances indexed by power up type ordinal.
+     */
+    void setPowerUpTypeWeights(double[] weights);
+
     /**
      * Adds new countdown in frames until power up created.
      */
@@ -74,6 +140,14 @@ public interface PowerUpManager {
      */
     Optional<PowerUp> getPowerUpByPoint(Coordinate point);
 
+    /**
+     * Finds power up on particular block, suitable for every frame calls.
+     * @param x is X-axis coordinate of block.
+     * @param y is Y-axis coordinate of block.
+     * @return power up on the block or null if there is no one.
+     */
+    PowerUp powerUpAt(int x, int y);
+
     /**
      * Removes power up from game.
      * @param powerUp to remove.
@@ -1,15 +1,30 @@
 package org.jeffersonairplane.model;
 
 import lombok.*;
+import org.jeffersonairplane.Trace;
+import org.jeffersonairplane.jfr.PowerUpSpawnEvent;
 import java.util.*;
+import java.util.random.RandomGenerator;
 import java.util.function.Supplier;
 import java.util.logging.*;
 
 public class PowerUpManagerImpl implements PowerUpManager {
-	@Getter
     private final List<PowerUp> powerUps;
-	@Getter
-	private final Map<PowerUpTypes, List<Integer>> powerUpCreationCountdowns;
+	private final List<PowerUp> powerUpsView;
+	private final PowerUpIndex powerUpIndex;
+	private static final PowerUpTypes[] POWER_UP_TYPES = PowerUpTypes.values();
+	/**
+	 * Power ups waiting for creation, payload is a power up type ordinal.
+	 */
+	private final SpawnTimingWheel powerUpCreationWheel;
+	/**
+	 * Frames passed since creation or reset.
+	 */
+	private long currentFrame;
+	/**
+	 * Power up type sampler indexed by type ordinal.
+	 */
+	private AliasTable powerUpTypeSampler;
 	@Getter @Setter
 	private int powerUpNumberLimit;
 	@Getter @Setter
@@ -18,6 +33,15 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	private int maxPowerUpCreationDelay;
 	@Getter @Setter
 	private int waitingAndExistingPowerUpsNumber;
+	@Getter @Setter
+	private OccupancyGrid occupancyGrid;
+	@Getter @Setter
+	private FlightRecorder flightRecorder;
+	/**
+	 * Source of power up types and creation delays only, so it may be an independent stream of the game.
+	 */
+	@Getter @Setter
+	private RandomGenerator random;
 	
 	private final Logger logger = Logger.getLogger(getClass().getName());
 	
@@ -28,34 +52,85 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	* @param maxPowerUpCreationDelay is a max delay until power up created in frames.
 	 */
 	public PowerUpManagerImpl(int powerUpNumberLimit, int minPowerUpCreationDelay, int maxPowerUpCreationDelay) {
+		this(powerUpNumberLimit, minPowerUpCreationDelay, maxPowerUpCreationDelay, new SplittableRandom());
+	}
+
+	/**
+	* Args powerUpNumberLimit, minPowerUpCreationDelay and maxPowerUpCreationDelay should be greater than or equal to zero.
+	* @param powerUpNumberLimit is a number of power ups exists on the playing field at the same time.
+	* @param minPowerUpCreationDelay is a min delay until power up created in frames.
+	* @param maxPowerUpCreationDelay is a max delay until power up created in frames.
+	* @param random is a source of randomness, seeded source makes power ups reproducible.
+	 */
+	public PowerUpManagerImpl(int powerUpNumberLimit, int minPowerUpCreationDelay, int maxPowerUpCreationDelay, RandomGenerator random) {
+		if(random == null) throw new NullPointerException("Random generator is null");
+		this.random = random;
 		powerUps = new ArrayList<>();
-		powerUpCreationCountdowns = new HashMap<>();
+		powerUpsView = Collections.unmodifiableList(powerUps);
+		powerUpIndex = new PowerUpIndex();
 		
 		this.powerUpNumberLimit = Math.max(powerUpNumberLimit, 0);
 		this.minPowerUpCreationDelay = Math.max(minPowerUpCreationDelay, 0);
 		this.maxPowerUpCreationDelay = Math.max(maxPowerUpCreationDelay, 0);
+		powerUpCreationWheel = new SpawnTimingWheel(this.maxPowerUpCreationDelay + 1);
+		updatePowerUpTypeWeights();
 		logger.log( Level.FINE, "PowerUpManager created." );
 	}
 	
+	/**
+	 * Getter for power ups collection.
+	 * Collection is read only, power ups are added and removed by manager to keep point index up to date.
+	 * Order of power ups is not kept on removal.
+	 * @return list of power ups existed.
+	 */
+	@Override
+	public List<PowerUp> getPowerUps() {
+		return powerUpsView;
+	}
+
 	/**
 	 * One frame passed for all power ups waiting for creation.
+	 * Only frame counter changes, waiting power ups are due on absolute frames.
 	 */
 	@Override
 	public void countdownWaitingPowerUps() {
-		logger.log( Level.FINE, "processing {0} power up countdowns in loop", powerUpCreationCountdowns.entrySet().size());
-		for(var entry: powerUpCreationCountdowns.entrySet()) {
-			var countdowns = entry.getValue();
-			for(int i = 0; i < countdowns.size(); i++) {
-				logger.log( Level.FINER, "processing[{0}]: {1}", new Object[]{ entry.getValue(), countdowns.get(i) } );
-				countdowns.set(i, countdowns.get(i) - 1);
-			}
-		}
+		++currentFrame;
+	}
+
+	/**
+	 * Schedules power up creation after a delay.
+	 * Waiting and existing power ups number is not changed.
+	 * @param type particular type of PowerUp to create.
+	 * @param delay in frames until power up created, created on the next {@link #createPowerUps} call if zero.
+	 */
+	@Override
+	public void schedulePowerUp(PowerUpTypes type, int delay) {
+		if(type == null) return;
+		powerUpCreationWheel.schedule(type.ordinal(), currentFrame + Math.max(delay, 0));
+	}
+
+	/**
+	 * Getter
+	 * @return number of power ups waiting for creation.
+	 */
+	@Override
+	public int getScheduledPowerUpsNumber() {
+		return powerUpCreationWheel.size();
+	}
+
+	/**
+	 * Counts frames until the nearest waiting power up created.
+	 * @return amount of frames or -1 if no power up is waiting.
+	 */
+	@Override
+	public int framesUntilNextPowerUp() {
+		long frame = powerUpCreationWheel.nextDueFrame();
+		return frame < 0 ? -1 : (int) Math.max(frame - currentFrame, 0);
 	}
 	
 	/**
-	 * Adds new countdown in frames until power up created only if power ups number limit do not reached.
-	 * Map key is a type of {@link org.jeffersonairplane.model.PowerUpTypes} - particular power up type.
-	 * Value is a list of countdowns represented in frames.
+	 * Schedules new power up creation only if power ups number limit do not reached.
+	 * Type is chosen by {@link #getRandomPowerUpType()}.
 	 * Delay is a random int between minPowerUpCreationDelay and maxPowerUpCreationDelay.
 	 * Do nothing if power ups limit reached.
 	 */
@@ -63,41 +138,65 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	public void runNewPowerUpCountdown() {
 		if(waitingAndExistingPowerUpsNumber < powerUpNumberLimit) {
 			PowerUpTypes powerUpType = getRandomPowerUpType();
-			logger.log( Level.FINE, "Chosen type: {0}.", powerUpType);
-			if(!powerUpCreationCountdowns.containsKey(powerUpType)) {
-				powerUpCreationCountdowns.put(powerUpType, new ArrayList<>());
-				logger.log( Level.FINE, "New collection for type {0} created.", powerUpType);
-			}
-			Random rnd = new Random();
-			int delay = rnd.nextInt(maxPowerUpCreationDelay - minPowerUpCreationDelay) + minPowerUpCreationDelay;
-			logger.log( Level.FINE, "Chosen delay: {0}.", delay);
-			powerUpCreationCountdowns.get(powerUpType).add(delay);
+			if(Trace.ENABLED) logger.log(Level.FINE, "Chosen type: {0}.", powerUpType);
+			int delay = maxPowerUpCreationDelay > minPowerUpCreationDelay
+					? random.nextInt(minPowerUpCreationDelay, maxPowerUpCreationDelay)
+					: minPowerUpCreationDelay;
+			if(Trace.ENABLED) logger.log(Level.FINE, "Chosen delay: {0}.", delay);
+			schedulePowerUp(powerUpType, delay);
 			++waitingAndExistingPowerUpsNumber;
-			logger.log( Level.FINE, "Overall power ups: {0}.", waitingAndExistingPowerUpsNumber);
+			if(Trace.ENABLED) logger.log(Level.FINE, "Overall power ups: {0}.", waitingAndExistingPowerUpsNumber);
 		}
 		else
 		{
-			logger.log( Level.FINE, "New countdown wasn't run. Current power ups - {0}. Limit - {1}.",
+			if(Trace.ENABLED) logger.log(Level.FINE, "New countdown wasn't run. Current power ups - {0}. Limit - {1}.",
 					new Object[] {waitingAndExistingPowerUpsNumber, powerUpNumberLimit});
 		}
 	}
 	
+	/**
+	 * Rebuilds power up type sampler from current {@link org.jeffersonairplane.model.PowerUpTypes} creation weights.
+	 * If every weight is zero, all types have the same chance.
+	 * @throws IllegalArgumentException if weights are negative or not finite.
+	 */
+	@Override
+	public void updatePowerUpTypeWeights() {
+		double[] weights = new double[POWER_UP_TYPES.length];
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = POWER_UP_TYPES[i].getCreationWeight();
+		}
+		setPowerUpTypeWeights(weights);
+	}
+
+	/**
+	 * Rebuilds power up type sampler from weights owned by this manager, so managers of parallel games never share them.
+	 * If every weight is zero, all types have the same chance.
+	 * @param weights relative chances indexed by power up type ordinal.
+	 * @throws IllegalArgumentException if weights are negative, not finite or their amount differs from amount of types.
+	 */
+	@Override
+	public void setPowerUpTypeWeights(double[] weights) {
+		try {
+			if(weights.length != POWER_UP_TYPES.length) {
+				throw new IllegalArgumentException("Expected " + POWER_UP_TYPES.length + " power up type weights, got " + weights.length + ".");
+			}
+			powerUpTypeSampler = new AliasTable(weights);
+			logger.log(Level.FINE, "Power up type weights set: {0}.", Arrays.toString(weights));
+		}
+		catch (IllegalArgumentException e) {
+			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
+			throw e;
+		}
+	}
+
 	/**
 	 * Chooses type randomly using it predefined weight.
 	 * @return type of power up.
 	 */
 	public PowerUpTypes getRandomPowerUpType() {
-		Random rnd = new Random();
-		int chance = rnd.nextInt(101);
-		logger.log( Level.FINE, "Chosen percentage: {0}.", chance);
-		for(PowerUpTypes type: PowerUpTypes.values()) {
-			if(chance >= type.getMinChance() && chance <= type.getMaxChance()) {
-				logger.log( Level.FINE, "Chosen Power Up type: {0}.", type);
-				return type;
-			}
-		}
-		logger.log(Level.SEVERE, "No appropriate Power Up type found.");
-		throw new IllegalStateException("No appropriate Power Up type found.");
+		PowerUpTypes type = POWER_UP_TYPES[powerUpTypeSampler.sample(random)];
+		if(Trace.ENABLED) logger.log(Level.FINE, "Chosen Power Up type: {0}.", type);
+		return type;
 	}
 
 	/**
@@ -107,14 +206,19 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	 */
 	@Override
 	public Optional<PowerUp> getPowerUpByPoint(Coordinate point) {
-		for(PowerUp power: powerUps) {
-			if(power.getPoint().equals(point)) {
-				logger.log( Level.FINE, "Chosen Power Up: {0}.", power);
-				return Optional.of(power);
-			}
-		}
-		logger.log( Level.FINE, "No Power Up found.");
-		return Optional.empty();
+		if(point == null) return Optional.empty();
+		return Optional.ofNullable(powerUpAt(point.xCoord(), point.yCoord()));
+	}
+
+	/**
+	 * Finds power up on particular block without allocation.
+	 * @param x is X-axis coordinate of block.
+	 * @param y is Y-axis coordinate of block.
+	 * @return power up on the block or null if there is no one.
+	 */
+	@Override
+	public PowerUp powerUpAt(int x, int y) {
+		return powerUpIndex.get(x, y);
 	}
 
 	/**
@@ -126,7 +230,7 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	@Override
 	public boolean createPowerUp(PowerUpTypes type, Coordinate coordinate) {
 		if(type == null || coordinate == null) {
-			logger.log( Level.FINE, "Bad arguments.");
+			if(Trace.ENABLED) logger.log(Level.FINE, "Bad arguments.");
 			return false;
 		}
 		PowerUp powerUp = switch (type) {
@@ -135,49 +239,70 @@ public class PowerUpManagerImpl implements PowerUpManager {
 			default -> null;
 		};
 		if(powerUp == null) return false;
-		logger.log( Level.FINE, "Power Up created: {0}.", powerUp);
+		if(Trace.ENABLED) logger.log(Level.FINE, "Power Up created: {0}.", powerUp);
+		powerUpIndex.add(powerUp, powerUps.size());
 		powerUps.add(powerUp);
+		if(occupancyGrid != null) occupancyGrid.occupy(coordinate);
 		return true;
 	}
 
 	/**
 	 * Creates every power up which waiting time has passed.
+	 * Only power ups due on passed frames are visited.
+	 * Creation is skipped if coordinate supplier has no free point (playing field is full).
+	 * Creation is reported as {@link PowerUpSpawnEvent} to Java Flight Recorder if the event is enabled.
 	 */
 	@Override
 	public void createPowerUps(Supplier<Coordinate> coordinateSupplier) {
-		for(var entry: powerUpCreationCountdowns.entrySet()) {
-			logger.log( Level.FINE, "Processing Power Up type: {0}, elements: {1}.", new Object[] {entry.getKey(), entry.getValue().size()});
-			var countdowns = entry.getValue();
-			for (var iterator = countdowns.listIterator(); iterator.hasNext(); ) {
-				Integer framesLeft = iterator.next();
-				if(framesLeft < 1) {
-					boolean created = createPowerUp(entry.getKey(), coordinateSupplier.get());
-					iterator.remove();
-					if(!created) {
-						--waitingAndExistingPowerUpsNumber;
-						logger.log( Level.FINE, "New Power Up creation failed. Overall amount of power ups left: {0}.", waitingAndExistingPowerUpsNumber);
-					}
-					else {
-						logger.log( Level.FINE, "New Power Up created. Type: {0}.", entry.getKey());
-					}
-				}
+		PowerUpSpawnEvent event = new PowerUpSpawnEvent();
+		event.begin();
+		int createdAmount = 0;
+		for(int ordinal = powerUpCreationWheel.poll(currentFrame); ordinal >= 0; ordinal = powerUpCreationWheel.poll(currentFrame)) {
+			PowerUpTypes type = POWER_UP_TYPES[ordinal];
+			Coordinate point = coordinateSupplier.get();
+			if(point == null) {
+				if(Trace.ENABLED) logger.log(Level.FINE, "No free point for Power Up. Type: {0}.", type);
+			}
+			boolean created = point != null && createPowerUp(type, point);
+			if(!created) {
+				--waitingAndExistingPowerUpsNumber;
+				if(Trace.ENABLED) logger.log(Level.FINE, "New Power Up creation failed. Overall amount of power ups left: {0}.", waitingAndExistingPowerUpsNumber);
+			}
+			else {
+				++createdAmount;
+				if(flightRecorder != null) flightRecorder.record(FlightRecorder.EventType.SPAWN, CellId.of(point), ordinal);
+				if(Trace.ENABLED) logger.log(Level.FINE, "New Power Up created. Type: {0}.", type);
 			}
 		}
+		if(event.shouldCommit()) {
+			event.frame = currentFrame;
+			event.created = createdAmount;
+			event.powerUps = powerUps.size();
+			event.commit();
+		}
 	}
 
 	/**
-	 * Removes power up from game.
+	 * Removes power up from game in constant time.
+	 * Last power up of the list takes place of removed one, so order of power ups is not kept.
 	 * @param powerUp to remove.
 	 * @return true if removed.
 	 */
 	@Override
 	public boolean removePowerUp(PowerUp powerUp) {
-		if(powerUps.remove(powerUp)) {
+		int position = powerUpIndex.removeAndGetPosition(powerUp);
+		if(position >= 0) {
+			PowerUp last = powerUps.remove(powerUps.size() - 1);
+			if(last != powerUp) {
+				powerUps.set(position, last);
+				powerUpIndex.setPosition(last, position);
+			}
+			if(occupancyGrid != null) occupancyGrid.release(powerUp.getPoint());
 			--waitingAndExistingPowerUpsNumber;
-			logger.log(Level.FINE, "Power Up removed: {0}. Overall amount of power ups left: {1}.", new Object[] {powerUp, waitingAndExistingPowerUpsNumber});
+			if(Trace.ENABLED) logger.log(Level.FINE, "Power Up removed: {0}. Overall amount of power ups left: {1}.", new Object[] {powerUp, waitingAndExistingPowerUpsNumber});
 			return true;
 		}
-		logger.log(Level.FINE, "Power Up wasn't removed: {0}.", powerUp);
+		if(Trace.ENABLED) logger.log(Level.FINE, "Power Up wasn't removed: {0}.", powerUp);
 		return false;
 	}
 	
@@ -187,8 +312,15 @@ public class PowerUpManagerImpl implements PowerUpManager {
 	@Override
 	public void resetState() {
 		logger.log(Level.FINE, "Power up manager state reset.");
-		powerUpCreationCountdowns.clear();
+		powerUpCreationWheel.clear();
+		currentFrame = 0;
+		if(occupancyGrid != null) {
+			for(PowerUp powerUp: powerUps) {
+				occupancyGrid.release(powerUp.getPoint());
+			}
+		}
 		powerUps.clear();
+		powerUpIndex.clear();
 		waitingAndExistingPowerUpsNumber = 0;
 	}
 }
\ No newline at end of file
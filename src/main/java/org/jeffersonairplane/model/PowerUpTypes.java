@@ -14,6 +14,10 @@ public enum PowerUpTypes {
 
     private int minChance;
 	private int maxChance;
+	/**
+	 * Relative chance of creation, compared with weights of other types.
+	 */
+	private double creationWeight;
 	
 	private PowerUpTypes(int min, int max) {
 		minChance = min;
@@ -23,6 +27,7 @@ public enum PowerUpTypes {
     /**
 	* Sets range of creation particular power up from 0 to 100.
 	* All chances are zero by default, so should be set up manually using this method.
+	* Creation weight becomes the range width.
 	* @param min is a lower limit of the range.
 	 * @param max is higher limit of the range.
 	*/
@@ -30,5 +35,16 @@ public enum PowerUpTypes {
 		if(min < 0 || max < 0 || max > 100 || min > max) return;
 		minChance = min;
 		maxChance = max;
+		creationWeight = max - min + 1;
+	}
+
+	/**
+	 * Sets relative chance of creation directly, fractional weights allowed.
+	 * Negative and not finite weights are ignored.
+	 * @param weight of the type compared with other types.
+	 */
+	public void setCreationWeight(double weight) {
+		if(!Double.isFinite(weight) || weight < 0) return;
+		creationWeight = weight;
 	}
 }
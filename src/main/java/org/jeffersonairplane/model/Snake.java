@@ -8,23 +8,36 @@ import java.util.*;
 
 /**
  * Snake class implements snake's state, movement and grow.
+ * Snake blocks are stored as packed cell ids (see {@link org.jeffersonairplane.model.CellId})
+ * in a growable ring buffer from tail to head, so moving, growing and cutting the snake allocates nothing.
  */
-@Getter
 public class Snake {
 
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] cells = new int[INITIAL_CAPACITY];
     /**
-     * -- GETTER --
+     * Position of the tail in cells array.
      */
-    private final Deque<Coordinate> snakeBlocks = new LinkedList<>();
+    private int tailPosition;
+    private int size;
+    private final List<Coordinate> snakeBlocks = new SnakeBlocksView();
     /**
      * -- GETTER --
      * -- SETTER --
      */
-    @Setter
+    @Getter @Setter
     private Direction direction;
-    @Setter
+    @Getter @Setter
     private Direction forbidenDirection;
-	
+    /**
+     * -- GETTER --
+     * -- SETTER --
+     * Playing field blocks occupation, null if snake is not placed on a field.
+     */
+    @Getter @Setter
+    private OccupancyGrid occupancyGrid;
+
 	/**
 	 * No args constructor.
 	 * Sets current snake direction to RIGHT by default.
@@ -35,6 +48,153 @@ public class Snake {
         forbidenDirection = Direction.LEFT;
     }
 
+    /**
+     * Read-only view of snake blocks from tail (first) to head (last).
+     * Every element is created on access, so hot paths should use {@link #cellAt(int)} instead.
+     * @return snake blocks.
+     */
+    public List<Coordinate> getSnakeBlocks() {
+        return snakeBlocks;
+    }
+
+    /**
+     * Getter
+     * @return amount of snake blocks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if snake has no blocks.
+     * @return true if snake is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns snake block by index.
+     * @param index from 0 (tail) to size - 1 (head).
+     * @return packed cell id of block.
+     */
+    public int cellAt(int index) {
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        return cells[position(index)];
+    }
+
+    /**
+     * Getter
+     * @return packed cell id of snake head.
+     */
+    public int headCell() {
+        if(size == 0) throw new NoSuchElementException("Snake is empty");
+        return cells[position(size - 1)];
+    }
+
+    /**
+     * Getter
+     * @return packed cell id of snake tail.
+     */
+    public int tailCell() {
+        if(size == 0) throw new NoSuchElementException("Snake is empty");
+        return cells[tailPosition];
+    }
+
+    /**
+     * Getter
+     * @return coordinate of snake head or null if snake is empty.
+     */
+    public Coordinate getHead() {
+        return size == 0 ? null : CellId.toCoordinate(headCell());
+    }
+
+    /**
+     * Getter
+     * @return coordinate of snake tail or null if snake is empty.
+     */
+    public Coordinate getTail() {
+        return size == 0 ? null : CellId.toCoordinate(tailCell());
+    }
+
+    /**
+     * Adds new block in front of the head.
+     * @param cell is a packed cell id of new head.
+     */
+    public void addHead(int cell) {
+        ensureCapacity();
+        cells[position(size)] = cell;
+        ++size;
+        if(occupancyGrid != null) occupancyGrid.occupySnakeBlock(CellId.x(cell), CellId.y(cell));
+    }
+
+    /**
+     * Adds new block in front of the head.
+     * @param point is a coordinate of new head.
+     */
+    public void addHead(Coordinate point) {
+        addHead(CellId.of(point));
+    }
+
+    /**
+     * Adds new block behind the tail.
+     * @param cell is a packed cell id of new tail.
+     */
+    public void addTail(int cell) {
+        ensureCapacity();
+        tailPosition = (tailPosition - 1) & (cells.length - 1);
+        cells[tailPosition] = cell;
+        ++size;
+        if(occupancyGrid != null) occupancyGrid.occupySnakeBlock(CellId.x(cell), CellId.y(cell));
+    }
+
+    /**
+     * Adds new block behind the tail.
+     * @param point is a coordinate of new tail.
+     */
+    public void addTail(Coordinate point) {
+        addTail(CellId.of(point));
+    }
+
+    /**
+     * Removes tail block.
+     * @return packed cell id of removed block.
+     */
+    public int removeTail() {
+        int cell = tailCell();
+        tailPosition = (tailPosition + 1) & (cells.length - 1);
+        --size;
+        if(occupancyGrid != null) occupancyGrid.releaseSnakeBlock(CellId.x(cell), CellId.y(cell));
+        return cell;
+    }
+
+    /**
+     * Removes all snake blocks.
+     */
+    public void clear() {
+        while(size > 0) {
+            removeTail();
+        }
+        tailPosition = 0;
+    }
+
+    /**
+     * Capacity is always a power of two, so position wraps around with a mask.
+     */
+    private int position(int index) {
+        return (tailPosition + index) & (cells.length - 1);
+    }
+
+    private void ensureCapacity() {
+        if(size < cells.length) return;
+        int[] grown = new int[cells.length * 2];
+        for(int i = 0; i < size; i++) {
+            grown[i] = cells[position(i)];
+        }
+        cells = grown;
+        tailPosition = 0;
+    }
+
     /**
 	 * Compares two collections of snake blocks.
 	 * @param object is another {@link org.jeffersonairplane.model.Snake} object.
@@ -43,8 +203,41 @@ public class Snake {
     @Override
     public boolean equals(Object object) {
         if(object instanceof Snake snake) {
-            return this.getSnakeBlocks().equals(snake.getSnakeBlocks()) && this.getDirection() == snake.getDirection();
+            if(this.size != snake.size || this.getDirection() != snake.getDirection()) return false;
+            for(int i = 0; i < size; i++) {
+                if(this.cellAt(i) != snake.cellAt(i)) return false;
+            }
+            return true;
         }
         return false;
     }
+
+    /**
+     * Hash code consistent with {@link #equals(Object)}: size, direction and every block cell.
+     * @return hash code of snake blocks and direction.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 31 * size + Objects.hashCode(direction);
+        for(int i = 0; i < size; i++) {
+            hash = 31 * hash + cellAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Read-only list of snake blocks backed by the ring buffer.
+     */
+    private class SnakeBlocksView extends AbstractList<Coordinate> implements RandomAccess {
+
+        @Override
+        public Coordinate get(int index) {
+            return CellId.toCoordinate(cellAt(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -1,10 +1,11 @@
 package org.jeffersonairplane.model;
 
 import lombok.*;
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.Trace;
+import org.jeffersonairplane.jfr.SnakeStepEvent;
 import org.jeffersonairplane.viewmodel.Direction;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.logging.*;
@@ -18,26 +19,29 @@ public class SnakeManagerImpl implements SnakeManager {
 	private final Snake snake;
 	@Getter @Setter
 	private int snakeMovementRhythm;
+	/**
+	 * Movement rhythm restored on reset.
+	 */
+	private final int initialSnakeMovementRhythm;
 
 	private final Logger logger = Logger.getLogger(getClass().getName());
 	/**
 	 * No args constructor.
 	 * Creates empty {@link org.jeffersonairplane.model.Snake} with 0 blocks.
-	 * Receives snake movement rhythm from properties.
+	 * Receives snake movement rhythm from default {@link GameConfig}.
 	 */
     public SnakeManagerImpl() {
-		try {
-			snake = new Snake();
-
-			Properties props = PropertiesLoader.getProperties();
-			snakeMovementRhythm = Integer.parseInt(props.getProperty("snake_move_delay"));
-			logger.log(Level.FINE, "Snake manager created successfully.");
-		}
-		catch (Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+		this(GameConfig.getDefault());
     }
+
+	/**
+	 * Constructor.
+	 * Creates empty {@link org.jeffersonairplane.model.Snake} with 0 blocks.
+	 * @param config provides snake movement rhythm.
+	 */
+	public SnakeManagerImpl(GameConfig config) {
+		this(new Snake(), config.getSnakeMoveDelay());
+	}
 	
 	/**
 	 * Constructor
@@ -53,6 +57,7 @@ public class SnakeManagerImpl implements SnakeManager {
 		this.snake = snakeToSet;
 
 		snakeMovementRhythm = movementRhythm;
+		initialSnakeMovementRhythm = movementRhythm;
 		logger.log(Level.FINE, "Snake manager created successfully.");
     }
 	
@@ -80,7 +85,7 @@ public class SnakeManagerImpl implements SnakeManager {
                 x = current.xCoord() - 1;
             }
 		}
-		logger.log(Level.FINE, "Next snake coordinate: x:{0}, y:{1}.", new Object[]{x, y});
+		if(Trace.ENABLED) logger.log(Level.FINE, "Next snake coordinate: x:{0}, y:{1}.", new Object[]{x, y});
 		return new Coordinate(x, y);
 	}
 	private int getActualSnakeSizeToFill(int snakeSize, Coordinate head, Direction direction, int fieldWidthInBlocks, int fieldHeightInBlocks) {
@@ -112,16 +117,16 @@ public class SnakeManagerImpl implements SnakeManager {
 		}
 		int actualSnakeSize = getActualSnakeSizeToFill(snakeSize, head, direction, fieldWidthInBlocks, fieldHeightInBlocks);
 		snake.setDirection(direction);
-		snake.getSnakeBlocks().clear();
+		snake.clear();
 		Coordinate current = new Coordinate(head.xCoord(), head.yCoord());
-		snake.getSnakeBlocks().offerFirst(current);
+		snake.addTail(current);
 		Coordinate next = null;
 		
 		logger.log(Level.FINE, "Processing fill snake in a loop. Blocks amount: {0}", actualSnakeSize);
         for(int i = 0; i < actualSnakeSize - 1; i++) {
-			logger.log(Level.FINER, "Processing {0}", i+1);
+			if(Trace.ENABLED) logger.log(Level.FINER, "Processing {0}", i+1);
 			next = getNextCoordinateToFillSnake(current, direction);
-            snake.getSnakeBlocks().offerFirst(next);
+            snake.addTail(next);
             current = next;
         }
 		return true;
@@ -129,25 +134,34 @@ public class SnakeManagerImpl implements SnakeManager {
 
     /**
      * <p>Moves snake one step forward in a current snake direction.</p>
+     * Step is reported as {@link SnakeStepEvent} to Java Flight Recorder if the event is enabled.
      */
     @Override
     public void snakeStep() {
-		Coordinate head = snake.getSnakeBlocks().peekLast();
-		snake.getSnakeBlocks().pollFirst();
-		if(head == null) {
+		SnakeStepEvent event = new SnakeStepEvent();
+		event.begin();
+		if(snake.isEmpty()) {
 			logger.log(Level.SEVERE, "Snake step failed. Snake head is null.");
 			throw new NullPointerException("Snake head is null");
 		}
-        int headXCoord = head.xCoord();
-        int headYCoord = head.yCoord();
-        Coordinate newHead = switch(snake.getDirection()) {
-            case LEFT -> new Coordinate(--headXCoord, headYCoord);
-            case UP -> new Coordinate(headXCoord, ++headYCoord);
-            case RIGHT -> new Coordinate(++headXCoord, headYCoord);
-            case DOWN -> new Coordinate(headXCoord, --headYCoord);
-        };
-		logger.log(Level.FINE, "Processing snake step. New head point: x:{0}, y:{1}", new Object[]{newHead.xCoord(), newHead.yCoord()});
-		snake.getSnakeBlocks().offerLast(newHead);
+		int head = snake.headCell();
+        int headXCoord = CellId.x(head);
+        int headYCoord = CellId.y(head);
+        switch(snake.getDirection()) {
+            case LEFT -> --headXCoord;
+            case UP -> ++headYCoord;
+            case RIGHT -> ++headXCoord;
+            case DOWN -> --headYCoord;
+        }
+		if(Trace.ENABLED) logger.log(Level.FINE, "Processing snake step. New head point: x:{0}, y:{1}", new Object[]{headXCoord, headYCoord});
+		snake.removeTail();
+		snake.addHead(CellId.of(headXCoord, headYCoord));
+		if(event.shouldCommit()) {
+			event.snakeLength = snake.size();
+			event.headX = headXCoord;
+			event.headY = headYCoord;
+			event.commit();
+		}
     }
 
     /**
@@ -163,7 +177,7 @@ public class SnakeManagerImpl implements SnakeManager {
         if(newDirection != null && newDirection != snake.getForbidenDirection()) {
 
             snake.setDirection(newDirection);
-			logger.log(Level.FINE, "Snake direction changed to {0}", newDirection);
+			if(Trace.ENABLED) logger.log(Level.FINE, "Snake direction changed to {0}", newDirection);
 			return true;
         }
         return false;
@@ -191,7 +205,7 @@ public class SnakeManagerImpl implements SnakeManager {
     public void changeSnakeState(Consumer<Snake> powerUpEffect) {
 		if(powerUpEffect == null) return;
 		powerUpEffect.accept(snake);
-		logger.log(Level.FINE, "Power up applied");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Power up applied");
     }
 	
 	/**
@@ -202,32 +216,35 @@ public class SnakeManagerImpl implements SnakeManager {
      */
 	@Override
 	public boolean snakeCollideWithBorders(int fieldWidth, int fieldHeight) {
-		logger.log(Level.FINE, "Snake collision with borders check.");
-		Coordinate head = snake.getSnakeBlocks().peekLast();
-        if(head == null) {
+		if(Trace.ENABLED) logger.log(Level.FINE, "Snake collision with borders check.");
+        if(snake.isEmpty()) {
 			logger.log(Level.SEVERE, "Snake border collision failed. Snake head is null.");
 			throw new NullPointerException("Snake border collision failed. Snake head is null.");
 		}
-        return head.xCoord() < 1 || head.xCoord() > fieldWidth
-                || head.yCoord() < 1 || head.yCoord() > fieldHeight;
+		int head = snake.headCell();
+        return CellId.x(head) < 1 || CellId.x(head) > fieldWidth
+                || CellId.y(head) < 1 || CellId.y(head) > fieldHeight;
 	}
 	
 	/**
      * <p>Checks if snake collided with itself.</p>
+	 * Snake on a playing field looks only at snake blocks counted on the head block.
+	 * Snake without a field or with head outside of it is checked block by block.
 	 * @return true if snake collided with itself.
      */
 	@Override
 	public boolean snakeSelfCollide() {
-		logger.log(Level.FINE, "Snake collision with itself check.");
-		Coordinate head = snake.getSnakeBlocks().peekLast();
-        if(head == null) {
+        if(snake.isEmpty()) {
 			logger.log(Level.SEVERE, "Snake self collide check failed. Snake head is null.");
 			throw new NullPointerException("Snake self collide check failed. Snake head is null.");
 		}
-		logger.log(Level.FINE, "Processing snake self collision check in a loop. Iterations number: {0}", snake.getSnakeBlocks().size());
-        for(Coordinate snakeBlock: snake.getSnakeBlocks()) {
-			logger.log(Level.FINER, "Head point: x:{0}, y:{1}. Snake block point: x:{2}, y:{3}", new Object[]{head.xCoord(), head.yCoord(), snakeBlock.xCoord(), snakeBlock.yCoord()});
-            if(head.xCoord() == snakeBlock.xCoord() && head.yCoord() == snakeBlock.yCoord() && snakeBlock != head) {
+		int head = snake.headCell();
+		OccupancyGrid grid = snake.getOccupancyGrid();
+		if(grid != null && grid.contains(CellId.x(head), CellId.y(head))) {
+			return grid.snakeBlocksAt(CellId.x(head), CellId.y(head)) > 1;
+		}
+        for(int i = 0; i < snake.size() - 1; i++) {
+            if(snake.cellAt(i) == head) {
                 return true;
             }
         }
@@ -241,32 +258,26 @@ public class SnakeManagerImpl implements SnakeManager {
      */
 	@Override
 	public boolean snakeHeadAt(Coordinate coordinate) {
-		logger.log(Level.FINE, "Snake head at check.");
+		if(Trace.ENABLED) logger.log(Level.FINE, "Snake head at check.");
 		if(coordinate == null) return false;
-		Coordinate head = snake.getSnakeBlocks().peekLast();
+		Coordinate head = snake.getHead();
 		if(head == null) {
 			logger.log(Level.SEVERE, "Snake head at check failed. Snake head is null.");
 			throw new NullPointerException("Snake head at check failed. Snake head is null.");
 		}
-		logger.log(Level.FINE, "Head point: x:{0}, y:{1}. Arg point: x:{2}, y:{3}", new Object[]{head.xCoord(), head.yCoord(), coordinate.xCoord(), coordinate.yCoord()});
+		if(Trace.ENABLED) logger.log(Level.FINE, "Head point: x:{0}, y:{1}. Arg point: x:{2}, y:{3}", new Object[]{head.xCoord(), head.yCoord(), coordinate.xCoord(), coordinate.yCoord()});
 		return head.xCoord() == coordinate.xCoord() && head.yCoord() == coordinate.yCoord();
 	}
 	
 	/**
      * <p>Resets state to initial.</p>
+	 * Movement rhythm returns to the one manager was created with.
      */
 	@Override
 	public void resetState() {
-        try {
-			Properties props = PropertiesLoader.getProperties();
-			snakeMovementRhythm = Integer.parseInt(props.getProperty("snake_move_delay"));
-			snake.getSnakeBlocks().clear();
-			snake.setDirection(Direction.RIGHT);
-			logger.log(Level.FINE, "Snake manager state reset.");
-        } catch (IOException e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-            throw new RuntimeException(e);
-        }
-
+		snakeMovementRhythm = initialSnakeMovementRhythm;
+		snake.clear();
+		snake.setDirection(Direction.RIGHT);
+		logger.log(Level.FINE, "Snake manager state reset.");
 	}
 }
@@ -0,0 +1,172 @@
+package org.jeffersonairplane.model;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel of delayed spawns keyed by absolute frame number.
+ * Every slot holds spawns of one frame in scheduling order, entries are kept in preallocated int arrays.
+ * Scheduling and firing cost constant time per spawn, frame with nothing due costs one empty slot check.
+ * Wheel span grows twice when spawn is scheduled further than span frames ahead.
+ */
+public class SpawnTimingWheel {
+
+	private static final int NONE = -1;
+
+	private int[] slotHeads;
+	private int[] slotTails;
+	private int[] entryPayloads;
+	private long[] entryFrames;
+	private int[] entryNext;
+	/**
+	 * Head of unused entries list.
+	 */
+	private int freeEntry;
+	private int pending;
+	/**
+	 * Every spawn due on this frame or earlier has been fired.
+	 */
+	private long firedThrough;
+
+	/**
+	 * Constructor.
+	 * @param span is an initial amount of frames covered by wheel, rounded up to a power of two.
+	 */
+	public SpawnTimingWheel(int span) {
+		int capacity = Integer.highestOneBit(Math.max(span, 2) - 1) << 1;
+		slotHeads = new int[capacity];
+		slotTails = new int[capacity];
+		entryPayloads = new int[capacity];
+		entryFrames = new long[capacity];
+		entryNext = new int[capacity];
+		clear();
+	}
+
+	/**
+	 * Getter
+	 * @return amount of spawns waiting to fire.
+	 */
+	public int size() {
+		return pending;
+	}
+
+	/**
+	 * Getter
+	 * @return amount of frames covered by wheel.
+	 */
+	public int span() {
+		return slotHeads.length;
+	}
+
+	/**
+	 * Schedules spawn on a particular frame.
+	 * Frames already fired are moved to the first frame not fired yet.
+	 * @param payload is a non negative spawn value returned on firing.
+	 * @param frame when spawn is due.
+	 */
+	public void schedule(int payload, long frame) {
+		if(payload < 0) throw new IllegalArgumentException("Payload should not be negative: " + payload);
+		long due = Math.max(frame, firedThrough + 1);
+		while(due - firedThrough > slotHeads.length) {
+			growSlots();
+		}
+		if(freeEntry == NONE) growEntries();
+		int entry = freeEntry;
+		freeEntry = entryNext[entry];
+		entryPayloads[entry] = payload;
+		entryFrames[entry] = due;
+		append(entry);
+		++pending;
+	}
+
+	/**
+	 * Fires next spawn due on the frame or earlier.
+	 * Call repeatedly until it returns -1 to fire every due spawn.
+	 * @param frame is a current frame, should never decrease.
+	 * @return payload of fired spawn or -1 if nothing is due.
+	 */
+	public int poll(long frame) {
+		int mask = slotHeads.length - 1;
+		while(pending > 0 && firedThrough < frame) {
+			int slot = (int) ((firedThrough + 1) & mask);
+			int entry = slotHeads[slot];
+			if(entry != NONE) {
+				slotHeads[slot] = entryNext[entry];
+				if(slotHeads[slot] == NONE) slotTails[slot] = NONE;
+				entryNext[entry] = freeEntry;
+				freeEntry = entry;
+				--pending;
+				return entryPayloads[entry];
+			}
+			++firedThrough;
+		}
+		if(pending == 0 && firedThrough < frame) firedThrough = frame;
+		return NONE;
+	}
+
+	/**
+	 * Finds the nearest frame with a spawn, iterates over wheel slots.
+	 * @return frame of the nearest spawn or -1 if nothing is scheduled.
+	 */
+	public long nextDueFrame() {
+		if(pending == 0) return NONE;
+		int mask = slotHeads.length - 1;
+		for(long frame = firedThrough + 1; ; frame++) {
+			if(slotHeads[(int) (frame & mask)] != NONE) return frame;
+		}
+	}
+
+	/**
+	 * Removes all spawns and starts counting frames from zero.
+	 */
+	public void clear() {
+		Arrays.fill(slotHeads, NONE);
+		Arrays.fill(slotTails, NONE);
+		for(int i = 0; i < entryNext.length - 1; i++) {
+			entryNext[i] = i + 1;
+		}
+		entryNext[entryNext.length - 1] = NONE;
+		freeEntry = 0;
+		pending = 0;
+		firedThrough = -1;
+	}
+
+	private void append(int entry) {
+		int slot = (int) (entryFrames[entry] & (slotHeads.length - 1));
+		entryNext[entry] = NONE;
+		if(slotTails[slot] == NONE) slotHeads[slot] = entry;
+		else entryNext[slotTails[slot]] = entry;
+		slotTails[slot] = entry;
+	}
+
+	/**
+	 * Doubles the span, spawns are moved to new slots keeping their order.
+	 */
+	private void growSlots() {
+		int[] oldHeads = slotHeads;
+		int oldMask = oldHeads.length - 1;
+		slotHeads = new int[oldHeads.length * 2];
+		slotTails = new int[oldHeads.length * 2];
+		Arrays.fill(slotHeads, NONE);
+		Arrays.fill(slotTails, NONE);
+		for(long frame = firedThrough + 1; frame <= firedThrough + oldHeads.length; frame++) {
+			int entry = oldHeads[(int) (frame & oldMask)];
+			while(entry != NONE) {
+				int next = entryNext[entry];
+				append(entry);
+				entry = next;
+			}
+		}
+	}
+
+	private void growEntries() {
+		int oldLength = entryNext.length;
+		entryPayloads = Arrays.copyOf(entryPayloads, oldLength * 2);
+		entryFrames = Arrays.copyOf(entryFrames, oldLength * 2);
+		entryNext = Arrays.copyOf(entryNext, oldLength * 2);
+		for(int i = oldLength; i < entryNext.length - 1; i++) {
+			entryNext[i] = i + 1;
+		}
+		entryNext[entryNext.length - 1] = NONE;
+		freeEntry = oldLength;
+	}
+}
@@ -24,8 +24,8 @@ public class TailCutter extends PowerUp {
     public void influence(Snake snake) {
         if(snake == null) throw new NullPointerException("Snake is null");
         for(int i = 0; i < 2; i++) {
-            if(snake.getSnakeBlocks().size() > 2) {
-                snake.getSnakeBlocks().pollFirst();
+            if(snake.size() > 2) {
+                snake.removeTail();
             }
         }
     }
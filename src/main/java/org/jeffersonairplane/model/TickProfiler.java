@@ -0,0 +1,186 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Times phases of the game frame into preallocated {@link LatencyHistogram} instances.
+ * Phase timing is written as {@code mark = profiler.lap(phase, mark)} starting with {@code mark = profiler.start()},
+ * so every phase costs one {@link System#nanoTime()} call and allocates nothing.
+ * Disabled profiler does not read the clock at all.
+ * Summary of every phase is logged each {@code summaryIntervalFrames} frames if interval is positive.
+ * Phases should be timed by the game loop thread, snapshot may be taken by any thread and is approximate then.
+ */
+public class TickProfiler {
+
+	/**
+	 * Timed parts of the game frame.
+	 */
+	public enum Phase {
+		/**
+		 * Waiting power ups frame countdown.
+		 */
+		COUNTDOWN,
+		/**
+		 * Creation of due power ups.
+		 */
+		CREATE,
+		/**
+		 * Scheduling of a new power up.
+		 */
+		NEW_COUNTDOWN,
+		/**
+		 * Snake step.
+		 */
+		MOVE,
+		/**
+		 * Power up pickup and collisions check.
+		 */
+		PICKUP_AND_COLLISION,
+		/**
+		 * Passing game state to view.
+		 */
+		DRAW
+	}
+
+	/**
+	 * Phase timing summary in nanoseconds.
+	 * @param phase is a timed part of the frame.
+	 * @param count is an amount of timings.
+	 * @param p50 is a median.
+	 * @param p99 is a 99th percentile.
+	 * @param p999 is a 99.9th percentile.
+	 * @param max is the longest timing.
+	 */
+	public record PhaseStats(Phase phase, long count, long p50, long p99, long p999, long max) {}
+
+	/**
+	 * System property switching profiling on for profilers created by no args constructor.
+	 */
+	public static final String PROPERTY = "snake.profile";
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+	private volatile boolean enabled;
+	private volatile int summaryIntervalFrames;
+	private long frames;
+
+	private final Logger logger = Logger.getLogger(getClass().getName());
+
+	/**
+	 * Constructor, enabled by {@value #PROPERTY} system property, summary is logged every 1000 frames.
+	 */
+	public TickProfiler() {
+		this(Boolean.getBoolean(PROPERTY), 1000);
+	}
+
+	/**
+	 * Constructor.
+	 * @param enabled is true if phases should be timed.
+	 * @param summaryIntervalFrames is an amount of frames between logged summaries, 0 if summary is not logged.
+	 */
+	public TickProfiler(boolean enabled, int summaryIntervalFrames) {
+		for(int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		this.enabled = enabled;
+		this.summaryIntervalFrames = Math.max(summaryIntervalFrames, 0);
+	}
+
+	/**
+	 * Getter
+	 * @return true if phases are timed.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Setter
+	 * @param enabled is true if phases should be timed.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Setter
+	 * @param frames between logged summaries, 0 if summary should not be logged.
+	 */
+	public void setSummaryIntervalFrames(int frames) {
+		summaryIntervalFrames = Math.max(frames, 0);
+	}
+
+	/**
+	 * Starts timing of the first phase.
+	 * @return time mark or 0 if profiler is disabled.
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records time passed since mark as phase timing.
+	 * @param phase is a finished phase.
+	 * @param mark is a time mark returned by {@link #start()} or previous lap.
+	 * @return time mark of the next phase start or 0 if profiler is disabled.
+	 */
+	public long lap(Phase phase, long mark) {
+		if(!enabled || mark == 0) return 0;
+		long now = System.nanoTime();
+		histograms[phase.ordinal()].record(now - mark);
+		return now;
+	}
+
+	/**
+	 * Counts finished frame and logs summary if interval passed.
+	 */
+	public void frameDone() {
+		if(!enabled) return;
+		++frames;
+		int interval = summaryIntervalFrames;
+		if(interval > 0 && frames % interval == 0 && logger.isLoggable(Level.INFO)) {
+			logger.log(Level.INFO, summary());
+		}
+	}
+
+	/**
+	 * Summarizes every phase.
+	 * @return timings of phases in {@link Phase} order.
+	 */
+	public List<PhaseStats> snapshot() {
+		List<PhaseStats> stats = new ArrayList<>(PHASES.length);
+		for(Phase phase: PHASES) {
+			LatencyHistogram histogram = histograms[phase.ordinal()];
+			stats.add(new PhaseStats(phase, histogram.count(),
+					histogram.valueAtPercentile(50), histogram.valueAtPercentile(99),
+					histogram.valueAtPercentile(99.9), histogram.max()));
+		}
+		return stats;
+	}
+
+	/**
+	 * Formats snapshot as a table in microseconds.
+	 * @return summary of every phase.
+	 */
+	public String summary() {
+		StringBuilder builder = new StringBuilder(String.format("Frame phases after %d frames, us:%n", frames));
+		builder.append(String.format("%-22s %10s %10s %10s %10s %10s%n", "phase", "count", "p50", "p99", "p999", "max"));
+		for(PhaseStats stats: snapshot()) {
+			builder.append(String.format("%-22s %10d %10.1f %10.1f %10.1f %10.1f%n", stats.phase(), stats.count(),
+					stats.p50() / 1000.0, stats.p99() / 1000.0, stats.p999() / 1000.0, stats.max() / 1000.0));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Removes every timing.
+	 */
+	public void reset() {
+		for(LatencyHistogram histogram: histograms) {
+			histogram.reset();
+		}
+		frames = 0;
+	}
+}
@@ -0,0 +1,24 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.model.GameModel;
+import org.jeffersonairplane.viewmodel.Direction;
+
+/**
+ * Provides snake direction for headless simulation instead of keyboard input.
+ */
+@FunctionalInterface
+public interface DirectionSource {
+
+	/**
+	 * Direction source that never turns the snake.
+	 */
+	DirectionSource NONE = (model, frame) -> null;
+
+	/**
+	 * Asked once before every game frame.
+	 * @param model is a game state, should not be changed by source.
+	 * @param frame is a number of frame about to run, starts from 1 in every run.
+	 * @return new snake direction or null to keep current one.
+	 */
+	Direction nextDirection(GameModel model, long frame);
+}
@@ -0,0 +1,78 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.model.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.*;
+
+/**
+ * Plays headless games on a throwaway model, so {@link GameModel#oneFrameGameAction()} and classes it uses
+ * are loaded and compiled by JIT before the player starts the first game.
+ * Throwaway model does not write flight records and does not time frame phases.
+ * Power up creation chances should be set before warm-up, they are read by power up manager initialization.
+ */
+public class ModelWarmUp {
+
+	/**
+	 * Amount of frames enough for the frame action to reach the optimizing compiler.
+	 */
+	public static final long DEFAULT_FRAMES = 200_000;
+
+	private static final Logger logger = Logger.getLogger(ModelWarmUp.class.getName());
+
+	private ModelWarmUp() {}
+
+	/**
+	 * Runs warm-up on a new daemon thread.
+	 * @param config is a game settings of the throwaway model.
+	 * @param frames is an amount of frames to play.
+	 * @return played frames amount when warm-up is finished.
+	 */
+	public static CompletableFuture<Long> start(GameConfig config, long frames) {
+		CompletableFuture<Long> played = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				played.complete(run(config, frames, System.nanoTime()));
+			}
+			catch (RuntimeException e) {
+				logger.log(Level.WARNING, "Model warm-up failed. " + e);
+				played.completeExceptionally(e);
+			}
+		}, "model-warm-up");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+		return played;
+	}
+
+	/**
+	 * Plays games with random snake turns on calling thread until frames are spent.
+	 * @param config is a game settings of the throwaway model.
+	 * @param frames is an amount of frames to play.
+	 * @param seed makes warm-up games reproducible.
+	 * @return played frames amount.
+	 */
+	public static long run(GameConfig config, long frames, long seed) {
+		long start = System.nanoTime();
+		GameModelImpl model = new GameModelImpl(config);
+		model.setFlightRecorder(new FlightRecorder(16, null));
+		model.setTickProfiler(new TickProfiler(false, 0));
+		model.setDimension(new FieldDimension(config.getBlocksAmountX(), config.getBlocksAmountY()));
+		model.initializeSnakeManager();
+		model.initializePowerUpManager();
+
+		SplittableRandom seeds = new SplittableRandom(seed);
+		long played = 0;
+		while(played < frames) {
+			SimulationMain.newGame(model, config, seeds.split());
+			SimulationResult result = new SimulationEngine(model, SimulationMain.randomTurns(seeds.split()))
+					.runFrames(frames - played);
+			played += result.frames();
+		}
+		logger.log(Level.FINE, "Model warmed up by {0} frames in {1} ms.",
+				new Object[]{played, (System.nanoTime() - start) / 1_000_000});
+		return played;
+	}
+}
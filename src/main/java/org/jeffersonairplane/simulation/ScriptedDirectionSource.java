@@ -0,0 +1,66 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.model.GameModel;
+import org.jeffersonairplane.viewmodel.Direction;
+
+import java.util.*;
+
+/**
+ * Turns the snake on predefined frames.
+ * Script is a comma separated list of frame:direction pairs, e.g. "10:UP,25:LEFT".
+ */
+public class ScriptedDirectionSource implements DirectionSource {
+
+	private final long[] frames;
+	private final Direction[] directions;
+	private int next;
+
+	/**
+	 * Constructor.
+	 * @param script is a list of frame:direction pairs, frames should grow.
+	 * @throws IllegalArgumentException if script is malformed.
+	 */
+	public ScriptedDirectionSource(String script) {
+		String[] steps = script == null || script.isBlank() ? new String[0] : script.split(",");
+		frames = new long[steps.length];
+		directions = new Direction[steps.length];
+		for(int i = 0; i < steps.length; i++) {
+			String[] pair = steps[i].trim().split(":");
+			if(pair.length != 2) throw new IllegalArgumentException("Bad script step: " + steps[i]);
+			try {
+				frames[i] = Long.parseLong(pair[0].trim());
+				directions[i] = Direction.valueOf(pair[1].trim().toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Bad script step: " + steps[i], e);
+			}
+			if(i > 0 && frames[i] <= frames[i - 1]) {
+				throw new IllegalArgumentException("Script frames should grow: " + steps[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns scripted direction on its frame, steps with passed frames are skipped.
+	 * @param model is a game state.
+	 * @param frame is a number of frame about to run.
+	 * @return scripted direction or null.
+	 */
+	@Override
+	public Direction nextDirection(GameModel model, long frame) {
+		while(next < frames.length && frames[next] < frame) {
+			++next;
+		}
+		if(next < frames.length && frames[next] == frame) {
+			return directions[next++];
+		}
+		return null;
+	}
+
+	/**
+	 * Starts script from the beginning.
+	 */
+	public void rewind() {
+		next = 0;
+	}
+}
@@ -0,0 +1,80 @@
+package org.jeffersonairplane.simulation;
+
+import lombok.Getter;
+import org.jeffersonairplane.model.GameModel;
+import org.jeffersonairplane.viewmodel.Direction;
+
+import java.util.logging.*;
+
+/**
+ * Runs game model frames in a tight loop without view and frame timer.
+ * Model should be fully initialized: dimension, snake manager and power up manager set.
+ */
+public class SimulationEngine {
+
+	/**
+	 * Clock is read once per this amount of frames in time budget mode.
+	 */
+	private static final int CLOCK_CHECK_FRAMES = 1024;
+
+	@Getter
+	private final GameModel model;
+	private final DirectionSource directionSource;
+
+	private final Logger logger = Logger.getLogger(getClass().getName());
+
+	/**
+	 * Constructor.
+	 * @param model is an initialized game model.
+	 * @param directionSource provides snake turns, {@link DirectionSource#NONE} if null.
+	 */
+	public SimulationEngine(GameModel model, DirectionSource directionSource) {
+		if(model == null) throw new NullPointerException("Game model is null");
+		this.model = model;
+		this.directionSource = directionSource == null ? DirectionSource.NONE : directionSource;
+	}
+
+	/**
+	 * Frame budget mode, runs until snake collides or frames budget is spent.
+	 * @param maxFrames is a max amount of frames to run.
+	 * @return run outcome.
+	 */
+	public SimulationResult runFrames(long maxFrames) {
+		long start = System.nanoTime();
+		long frame = 0;
+		boolean gameOver = false;
+		while(frame < maxFrames && !gameOver) {
+			gameOver = step(++frame);
+		}
+		return finish(frame, gameOver, start);
+	}
+
+	/**
+	 * Max speed mode, runs until snake collides or time budget is spent.
+	 * @param nanos is a time budget in nanoseconds.
+	 * @return run outcome.
+	 */
+	public SimulationResult runFor(long nanos) {
+		long start = System.nanoTime();
+		long deadline = start + nanos;
+		long frame = 0;
+		boolean gameOver = false;
+		while(!gameOver) {
+			gameOver = step(++frame);
+			if(frame % CLOCK_CHECK_FRAMES == 0 && System.nanoTime() - deadline >= 0) break;
+		}
+		return finish(frame, gameOver, start);
+	}
+
+	private boolean step(long frame) {
+		Direction direction = directionSource.nextDirection(model, frame);
+		if(direction != null) model.changeSnakeDirection(direction);
+		return model.oneFrameGameAction();
+	}
+
+	private SimulationResult finish(long frames, boolean gameOver, long start) {
+		SimulationResult result = new SimulationResult(frames, model.getScore(), gameOver, System.nanoTime() - start);
+		logger.log(Level.FINE, "Simulation finished: {0}.", result);
+		return result;
+	}
+}
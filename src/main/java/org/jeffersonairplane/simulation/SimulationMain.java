@@ -0,0 +1,90 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.model.*;
+import org.jeffersonairplane.viewmodel.Direction;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless entry point, plays games one after another without AWT and Swing.
+ * Arguments: budget, optional seed and optional direction script.
+ * Budget is a total amount of frames (e.g. 10000000) or seconds with "s" suffix (e.g. 5s), 1000000 frames by default.
+ * Seed makes every game reproducible, random seed is used if it is not set or "-".
+ * Script is described in {@link ScriptedDirectionSource}, snake turns randomly if script is not set.
+ * Every game gets its own random stream split from the seeded one.
+ * Flight records are not written on game over unless {@value #FLIGHT_DUMPS_PROPERTY} system property is true.
+ */
+public class SimulationMain {
+
+	/**
+	 * System property turning on flight record dumps of simulated games,
+	 * they go to the directory from {@value FlightRecorder#DUMP_DIRECTORY_PROPERTY} system property.
+	 */
+	public static final String FLIGHT_DUMPS_PROPERTY = "snake.simulation.flightDumps";
+
+	public static void main(String[] args) {
+		String budget = args.length > 0 ? args[0] : "1000000";
+		SplittableRandom seeds = args.length > 1 && !args[1].equals("-")
+				? new SplittableRandom(Long.parseLong(args[1]))
+				: new SplittableRandom();
+		ScriptedDirectionSource script = args.length > 2 ? new ScriptedDirectionSource(args[2]) : null;
+
+		GameConfig config = GameConfig.load();
+		GameModelImpl model = new GameModelImpl(config);
+		model.setDimension(new FieldDimension(config.getBlocksAmountX(), config.getBlocksAmountY()));
+		model.initializeSnakeManager();
+		model.initializePowerUpManager();
+		if(!Boolean.getBoolean(FLIGHT_DUMPS_PROPERTY)) {
+			// Every game over of a batch would write a file otherwise.
+			model.setFlightRecorder(new FlightRecorder(model.getFlightRecorder().capacity(), null));
+		}
+
+		boolean timeBudget = budget.endsWith("s");
+		long left = timeBudget
+				? (long) (Double.parseDouble(budget.substring(0, budget.length() - 1)) * 1_000_000_000L)
+				: Long.parseLong(budget);
+		long games = 0, frames = 0, nanos = 0, maxScore = 0;
+		while(left > 0) {
+			RandomGenerator.SplittableGenerator gameRandom = seeds.split();
+			newGame(model, config, gameRandom.split());
+			DirectionSource directionSource = script;
+			if(script != null) script.rewind();
+			else directionSource = randomTurns(gameRandom.split());
+			SimulationEngine engine = new SimulationEngine(model, directionSource);
+			SimulationResult result = timeBudget ? engine.runFor(left) : engine.runFrames(left);
+			left -= timeBudget ? result.elapsedNanos() : result.frames();
+			++games;
+			frames += result.frames();
+			nanos += result.elapsedNanos();
+			maxScore = Math.max(maxScore, result.score());
+		}
+		System.out.printf("Games: %d, frames: %d, max score: %d, frames per second: %.0f%n",
+				games, frames, maxScore, new SimulationResult(frames, maxScore, false, nanos).framesPerSecond());
+		if(model.getTickProfiler().isEnabled()) System.out.print(model.getTickProfiler().summary());
+	}
+
+	/**
+	 * Resets model and places new snake in the middle of the field, as game over rerun does.
+	 */
+	static void newGame(GameModel model, GameConfig config, RandomGenerator.SplittableGenerator random) {
+		model.resetState();
+		model.setRandom(random);
+		FieldDimension dimension = model.getDimension();
+		model.getSnakeManager().fillSnake(
+				config.getInitialSnakeSize(),
+				new Coordinate(dimension.blocksAmountXAxis() / 2, dimension.blocksAmountYAxis() / 2),
+				Direction.RIGHT,
+				dimension.blocksAmountXAxis(),
+				dimension.blocksAmountYAxis());
+	}
+
+	/**
+	 * Turns the snake to random direction about once in 8 frames.
+	 */
+	static DirectionSource randomTurns(RandomGenerator random) {
+		Direction[] directions = Direction.values();
+		return (model, frame) -> random.nextInt(8) == 0 ? directions[random.nextInt(directions.length)] : null;
+	}
+}
@@ -0,0 +1,19 @@
+package org.jeffersonairplane.simulation;
+
+/**
+ * Outcome of one simulation run.
+ * @param frames is an amount of game frames run.
+ * @param score is a game score at the end of run.
+ * @param gameOver is true if snake collided, false if run stopped by budget.
+ * @param elapsedNanos is a wall clock time of run.
+ */
+public record SimulationResult(long frames, long score, boolean gameOver, long elapsedNanos) {
+
+	/**
+	 * Simulation speed.
+	 * @return frames per second, 0 if run took no measurable time.
+	 */
+	public double framesPerSecond() {
+		return elapsedNanos == 0 ? 0 : frames * 1_000_000_000.0 / elapsedNanos;
+	}
+}
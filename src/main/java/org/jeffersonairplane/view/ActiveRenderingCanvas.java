@@ -0,0 +1,85 @@
+package org.jeffersonairplane.view;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Heavyweight playing field surface for active rendering.
+ * Frames are drawn by the calling thread, commonly the game loop, into a {@link BufferStrategy}
+ * and shown at once, so they are never coalesced or delayed by Swing repaint manager.
+ * Rendering from several threads is serialized.
+ */
+public class ActiveRenderingCanvas extends Canvas {
+
+	private final GameWindow gameWindow;
+	private final int buffers;
+	private final Object renderLock = new Object();
+	private BufferStrategy strategy;
+
+	/**
+	 * Constructor.
+	 * @param gameWindow provides playing field state and draws it.
+	 * @param buffers is an amount of buffers in buffer strategy, 2 or 3.
+	 */
+	public ActiveRenderingCanvas(GameWindow gameWindow, int buffers) {
+		this.gameWindow = gameWindow;
+		this.buffers = buffers;
+		setIgnoreRepaint(true);
+	}
+
+	/**
+	 * Draws the whole playing field into the back buffer and shows it.
+	 * Does nothing until canvas is displayable.
+	 */
+	public void render() {
+		synchronized(renderLock) {
+			if(!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return;
+			if(strategy == null) {
+				createBufferStrategy(buffers);
+				strategy = getBufferStrategy();
+			}
+			do {
+				do {
+					Graphics graphics = strategy.getDrawGraphics();
+					try {
+						gameWindow.renderFrame(graphics);
+					}
+					finally {
+						graphics.dispose();
+					}
+				} while(strategy.contentsRestored());
+				strategy.show();
+			} while(strategy.contentsLost());
+			Toolkit.getDefaultToolkit().sync();
+		}
+	}
+
+	/**
+	 * Renders the frame again when system asks, for example when window is uncovered.
+	 * @param graphics is not used, frame is drawn through buffer strategy.
+	 */
+	@Override
+	public void paint(Graphics graphics) {
+		render();
+	}
+
+	/**
+	 * Renders without clearing, the frame covers the whole canvas.
+	 * @param graphics is not used, frame is drawn through buffer strategy.
+	 */
+	@Override
+	public void update(Graphics graphics) {
+		render();
+	}
+
+	/**
+	 * Drops buffer strategy, it is created again when canvas becomes displayable.
+	 */
+	@Override
+	public void removeNotify() {
+		synchronized(renderLock) {
+			strategy = null;
+			super.removeNotify();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package org.jeffersonairplane.view;
+
+import java.util.Objects;
+
+/**
+ * Finds blocks changed between two frame snapshots, so only they are repainted or redrawn.
+ * Actions are called for every changed block, vacated blocks always before occupied ones.
+ */
+final class FrameChanges {
+
+	/**
+	 * Action on one block given by its upper left corner in pixels.
+	 */
+	@FunctionalInterface
+	interface BlockAction {
+		void apply(int x, int y);
+	}
+
+	private FrameChanges() {}
+
+	/**
+	 * Snake moves by adding blocks at the head and removing them from the tail,
+	 * so the new shape is compared with the previous one shifted by the amount of removed tail blocks.
+	 * Whole shapes are changed if they do not match this way or snake color is changed.
+	 * Comparison is a pass over both shapes, so it costs snake length, while the amount of changed blocks
+	 * reported for a plain step stays constant.
+	 * @param previous is a snapshot of the previous frame.
+	 * @param frame is a snapshot of the new frame.
+	 * @param vacated is called for blocks not occupied by the new snake.
+	 * @param occupied is called for blocks not occupied by the previous snake.
+	 */
+	static void snakeChanges(FrameSnapshot previous, FrameSnapshot frame, BlockAction vacated, BlockAction occupied) {
+		int removed = -1;
+		if(frame.getSnakeLength() > 0 && Objects.equals(frame.getSnakeColor(), previous.getSnakeColor())) {
+			for(int i = 0; i < previous.getSnakeLength() && removed < 0; i++) {
+				if(previous.snakeX(i) == frame.snakeX(0) && previous.snakeY(i) == frame.snakeY(0)) removed = i;
+			}
+		}
+		int kept = removed < 0 ? 0 : Math.min(previous.getSnakeLength() - removed, frame.getSnakeLength());
+		for(int i = 0; i < kept; i++) {
+			if(frame.snakeX(i) != previous.snakeX(removed + i) || frame.snakeY(i) != previous.snakeY(removed + i)) {
+				removed = -1;
+				break;
+			}
+		}
+		if(removed < 0) {
+			snakeBlocks(previous, 0, previous.getSnakeLength(), vacated);
+			snakeBlocks(frame, 0, frame.getSnakeLength(), occupied);
+			return;
+		}
+		snakeBlocks(previous, 0, removed, vacated);
+		snakeBlocks(previous, removed + kept, previous.getSnakeLength(), vacated);
+		snakeBlocks(frame, kept, frame.getSnakeLength(), occupied);
+	}
+
+	/**
+	 * Compares power ups by type and point, every power up is looked up in the other snapshot's set,
+	 * so the cost grows linearly with the amount of power ups.
+	 * @param previous is a snapshot of the previous frame.
+	 * @param frame is a snapshot of the new frame.
+	 * @param removed is called for power ups absent in the new frame.
+	 * @param created is called for power ups absent in the previous frame.
+	 */
+	static void powerUpChanges(FrameSnapshot previous, FrameSnapshot frame, BlockAction removed, BlockAction created) {
+		for(int i = 0; i < previous.getPowerUpsAmount(); i++) {
+			if(!frame.containsPowerUp(previous.powerUpType(i), previous.powerUpX(i), previous.powerUpY(i))) {
+				removed.apply(previous.powerUpX(i), previous.powerUpY(i));
+			}
+		}
+		for(int i = 0; i < frame.getPowerUpsAmount(); i++) {
+			if(!previous.containsPowerUp(frame.powerUpType(i), frame.powerUpX(i), frame.powerUpY(i))) {
+				created.apply(frame.powerUpX(i), frame.powerUpY(i));
+			}
+		}
+	}
+
+	private static void snakeBlocks(FrameSnapshot frame, int from, int to, BlockAction action) {
+		for(int i = from; i < to; i++) {
+			action.apply(frame.snakeX(i), frame.snakeY(i));
+		}
+	}
+}
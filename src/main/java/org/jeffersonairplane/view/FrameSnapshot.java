@@ -0,0 +1,265 @@
+package org.jeffersonairplane.view;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Playing field state of one frame for painting: snake blocks, power ups, snake color and frame number.
+ * Points are upper left corners of blocks in pixels, kept in primitive arrays reused from frame to frame.
+ * Arrays grow when snake or power ups do not fit, so a long game stops allocating after the longest snake.
+ * Power ups are also kept in an open addressing set keyed by block and type, so a power up is found without iteration.
+ * Snapshot is filled by one thread and handed to painting thread through {@link TripleBuffer}.
+ */
+public class FrameSnapshot {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long frameNumber;
+	private Color snakeColor;
+	private int[] snakeX = new int[INITIAL_CAPACITY];
+	private int[] snakeY = new int[INITIAL_CAPACITY];
+	private int snakeLength;
+	private int[] powerUpX = new int[INITIAL_CAPACITY];
+	private int[] powerUpY = new int[INITIAL_CAPACITY];
+	private PowerUpTypesView[] powerUpTypes = new PowerUpTypesView[INITIAL_CAPACITY];
+	private int powerUpsAmount;
+	/**
+	 * Keys of power ups, see {@link #powerUpKey}, 0 marks empty slot. Grows twice when it is half full.
+	 */
+	private long[] powerUpKeys = new long[INITIAL_CAPACITY * 2];
+
+	/**
+	 * Getter
+	 * @return game frame the snapshot is made of.
+	 */
+	public long getFrameNumber() {
+		return frameNumber;
+	}
+
+	/**
+	 * Setter
+	 * @param frameNumber is a game frame the snapshot is made of.
+	 */
+	public void setFrameNumber(long frameNumber) {
+		this.frameNumber = frameNumber;
+	}
+
+	/**
+	 * Getter
+	 * @return snake color, null if not chosen yet.
+	 */
+	public Color getSnakeColor() {
+		return snakeColor;
+	}
+
+	/**
+	 * Setter
+	 * @param snakeColor is a color to paint every snake block with.
+	 */
+	public void setSnakeColor(Color snakeColor) {
+		this.snakeColor = snakeColor;
+	}
+
+	/**
+	 * Removes every snake block.
+	 */
+	public void clearSnake() {
+		snakeLength = 0;
+	}
+
+	/**
+	 * Adds snake block, blocks are added from tail to head.
+	 * @param x is a block left edge.
+	 * @param y is a block top edge.
+	 */
+	public void addSnakeBlock(int x, int y) {
+		if(snakeLength == snakeX.length) {
+			snakeX = Arrays.copyOf(snakeX, snakeLength * 2);
+			snakeY = Arrays.copyOf(snakeY, snakeLength * 2);
+		}
+		snakeX[snakeLength] = x;
+		snakeY[snakeLength] = y;
+		++snakeLength;
+	}
+
+	/**
+	 * Getter
+	 * @return amount of snake blocks.
+	 */
+	public int getSnakeLength() {
+		return snakeLength;
+	}
+
+	/**
+	 * Getter
+	 * @param index of block from tail.
+	 * @return block left edge.
+	 */
+	public int snakeX(int index) {
+		return snakeX[index];
+	}
+
+	/**
+	 * Getter
+	 * @param index of block from tail.
+	 * @return block top edge.
+	 */
+	public int snakeY(int index) {
+		return snakeY[index];
+	}
+
+	/**
+	 * Removes every power up.
+	 */
+	public void clearPowerUps() {
+		Arrays.fill(powerUpTypes, 0, powerUpsAmount, null);
+		Arrays.fill(powerUpKeys, 0);
+		powerUpsAmount = 0;
+	}
+
+	/**
+	 * Adds power up.
+	 * @param type of power up.
+	 * @param x is a block left edge.
+	 * @param y is a block top edge.
+	 */
+	public void addPowerUp(PowerUpTypesView type, int x, int y) {
+		if(type == null) throw new NullPointerException("Type is null!");
+		if(powerUpsAmount == powerUpX.length) {
+			powerUpX = Arrays.copyOf(powerUpX, powerUpsAmount * 2);
+			powerUpY = Arrays.copyOf(powerUpY, powerUpsAmount * 2);
+			powerUpTypes = Arrays.copyOf(powerUpTypes, powerUpsAmount * 2);
+		}
+		powerUpX[powerUpsAmount] = x;
+		powerUpY[powerUpsAmount] = y;
+		powerUpTypes[powerUpsAmount] = type;
+		++powerUpsAmount;
+		if(powerUpsAmount * 2 > powerUpKeys.length) {
+			growPowerUpKeys();
+		}
+		else {
+			insertPowerUpKey(powerUpKey(type, x, y));
+		}
+	}
+
+	/**
+	 * Getter
+	 * @return amount of power ups.
+	 */
+	public int getPowerUpsAmount() {
+		return powerUpsAmount;
+	}
+
+	/**
+	 * Getter
+	 * @param index of power up.
+	 * @return power up type.
+	 */
+	public PowerUpTypesView powerUpType(int index) {
+		return powerUpTypes[index];
+	}
+
+	/**
+	 * Getter
+	 * @param index of power up.
+	 * @return block left edge.
+	 */
+	public int powerUpX(int index) {
+		return powerUpX[index];
+	}
+
+	/**
+	 * Getter
+	 * @param index of power up.
+	 * @return block top edge.
+	 */
+	public int powerUpY(int index) {
+		return powerUpY[index];
+	}
+
+	/**
+	 * Tells if the same power up exists in this snapshot.
+	 * @param type of power up.
+	 * @param x is a block left edge.
+	 * @param y is a block top edge.
+	 * @return true if found.
+	 */
+	public boolean containsPowerUp(PowerUpTypesView type, int x, int y) {
+		if(type == null) return false;
+		long key = powerUpKey(type, x, y);
+		int mask = powerUpKeys.length - 1;
+		for(int slot = hash(key) & mask; powerUpKeys[slot] != 0; slot = (slot + 1) & mask) {
+			if(powerUpKeys[slot] == key) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Packs block and type into a key which is never 0.
+	 */
+	private static long powerUpKey(PowerUpTypesView type, int x, int y) {
+		return ((long) x << 32) | ((y & 0xFFFFFFL) << 8) | (type.ordinal() + 1);
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Equal keys are stored once, the set answers presence only.
+	 */
+	private void insertPowerUpKey(long key) {
+		int mask = powerUpKeys.length - 1;
+		int slot = hash(key) & mask;
+		while(powerUpKeys[slot] != 0) {
+			if(powerUpKeys[slot] == key) return;
+			slot = (slot + 1) & mask;
+		}
+		powerUpKeys[slot] = key;
+	}
+
+	private void growPowerUpKeys() {
+		powerUpKeys = new long[powerUpKeys.length * 2];
+		for(int i = 0; i < powerUpsAmount; i++) {
+			insertPowerUpKey(powerUpKey(powerUpTypes[i], powerUpX[i], powerUpY[i]));
+		}
+	}
+
+	/**
+	 * Removes every snake block and power up.
+	 */
+	public void clear() {
+		clearSnake();
+		clearPowerUps();
+	}
+
+	/**
+	 * Makes this snapshot equal to other, arrays are reused if they are big enough.
+	 * Costs snake length and amount of power ups, copied with {@link System#arraycopy}.
+	 * @param other snapshot to copy.
+	 */
+	public void copyFrom(FrameSnapshot other) {
+		frameNumber = other.frameNumber;
+		snakeColor = other.snakeColor;
+		clear();
+		if(snakeX.length < other.snakeLength) {
+			snakeX = new int[other.snakeX.length];
+			snakeY = new int[other.snakeY.length];
+		}
+		System.arraycopy(other.snakeX, 0, snakeX, 0, other.snakeLength);
+		System.arraycopy(other.snakeY, 0, snakeY, 0, other.snakeLength);
+		snakeLength = other.snakeLength;
+		if(powerUpX.length < other.powerUpsAmount) {
+			powerUpX = new int[other.powerUpX.length];
+			powerUpY = new int[other.powerUpY.length];
+			powerUpTypes = new PowerUpTypesView[other.powerUpTypes.length];
+		}
+		System.arraycopy(other.powerUpX, 0, powerUpX, 0, other.powerUpsAmount);
+		System.arraycopy(other.powerUpY, 0, powerUpY, 0, other.powerUpsAmount);
+		System.arraycopy(other.powerUpTypes, 0, powerUpTypes, 0, other.powerUpsAmount);
+		powerUpsAmount = other.powerUpsAmount;
+		if(powerUpKeys.length != other.powerUpKeys.length) powerUpKeys = new long[other.powerUpKeys.length];
+		System.arraycopy(other.powerUpKeys, 0, powerUpKeys, 0, powerUpKeys.length);
+	}
+}
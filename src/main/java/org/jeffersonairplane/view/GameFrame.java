@@ -5,7 +5,7 @@ import org.jeffersonairplane.viewmodel.Direction;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.util.function.Consumer;
+import java.util.function.*;
 import javax.swing.*;
 
 /**
@@ -20,9 +20,12 @@ public class GameFrame extends JFrame {
 	
 	private final JPanel gameplayWindowContainer;
 	
-	private final GameWindow gameWindow;
-	private final InfoWindow scoreWindow;
+	private final Supplier<GameplayWindows> gameplayWindows;
 	private final MenuWindow menuWindow;
+	/**
+	 * True when gameplay card is added, changed on event dispatch thread only.
+	 */
+	private boolean gameplayAttached;
 
 	@Setter
 	private Consumer<Direction> movement;
@@ -41,16 +44,25 @@ public class GameFrame extends JFrame {
 	 * @param menuWindow is a game main menu element.
 	*/
     public GameFrame(String title, GameWindow gameWindow, InfoWindow scoreWindow, MenuWindow menuWindow) {
-        this.gameWindow = gameWindow;
-		this.scoreWindow = scoreWindow;
+		this(title, menuWindow, () -> new GameplayWindows(gameWindow, scoreWindow));
+		attachGameplayWindows();
+	}
+
+	/**
+	 * Constructor, shows menu only.
+	 * Gameplay elements are added by {@link #attachGameplayWindows()} or on the first switch to gameplay.
+	 * @param title is an application title.
+	 * @param menuWindow is a game main menu element.
+	 * @param gameplayWindows provides gameplay elements, may wait until they are built.
+	 */
+	public GameFrame(String title, MenuWindow menuWindow, Supplier<GameplayWindows> gameplayWindows) {
+		this.gameplayWindows = gameplayWindows;
 		this.menuWindow = menuWindow;
 		this.menuWindow.setExitGame(this::processWindowEvent);
 		this.menuWindow.setExitEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
 		this.menuWindow.setSwitchToGameplay(this::gameplay);
 		gameplayWindowContainer = new JPanel();
 		gameplayWindowContainer.setLayout(new BoxLayout(gameplayWindowContainer, BoxLayout.Y_AXIS));
-		gameplayWindowContainer.add(this.scoreWindow);
-		gameplayWindowContainer.add(this.gameWindow);
 		cardLayout = new CardLayout();
 		mainContainer = new JPanel(cardLayout);
 		mainContainer.add(menuWindow, "menu");
@@ -65,7 +77,33 @@ public class GameFrame extends JFrame {
         setLocationRelativeTo(null);
     }
 
+	/**
+	 * Adds gameplay elements to the frame, does nothing if they are added already.
+	 * Should be called on event dispatch thread, gameplay elements are taken from the supplier and may be built by it.
+	 */
+	public void attachGameplayWindows() {
+		if(gameplayAttached) return;
+		GameplayWindows windows = gameplayWindows.get();
+		gameplayWindowContainer.add(windows.infoWindow());
+		gameplayWindowContainer.add(windows.gameWindow());
+		gameplayWindowContainer.revalidate();
+		gameplayAttached = true;
+	}
+
+	/**
+	 * Binds gameplay keys to the playing field on event dispatch thread.
+	 * Returns at once if called on another thread, keys are bound later by event dispatch thread.
+	 */
 	public void setGameplayInputs() {
+		if(SwingUtilities.isEventDispatchThread()) bindGameplayInputs();
+		else SwingUtilities.invokeLater(this::bindGameplayInputs);
+	}
+
+	/**
+	 * Changes input and action maps of the playing field, so it should run on event dispatch thread.
+	 */
+	private void bindGameplayInputs() {
+		GameWindow gameWindow = gameplayWindows.get().gameWindow();
         String moveUp = "Move_Up";
         gameWindow.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
 				.put(KeyStroke.getKeyStroke(KeyEvent.VK_DOWN, 0), moveUp);
@@ -116,6 +154,7 @@ public class GameFrame extends JFrame {
 	 * Prepare input listener and switches layout to show gameplay.
 	 */
 	public void gameplay() {
+		attachGameplayWindows();
 		cardLayout.show(mainContainer, "gameplay");
 	}
 
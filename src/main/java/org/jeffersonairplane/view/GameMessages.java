@@ -1,11 +1,9 @@
 package org.jeffersonairplane.view;
 
 import lombok.*;
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
 
 import java.util.*;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Stores messages shown when power up taken
@@ -19,24 +17,16 @@ public class GameMessages {
     @Getter @Setter
     private String pauseMessage;
 
-    private final Logger logger = Logger.getLogger(getClass().getName());
     /**
-     * Adds default messages for every power up type in the game.
+     * Adds messages for every power up type in the game.
+     * @param config provides messages.
      */
-    public GameMessages() {
-        try {
-            Properties props = PropertiesLoader.getProperties();
-            scoreMessage = props.getProperty("score_message");
-            powerUpMessages.add(props.getProperty("apple_message"));
-            powerUpMessages.add(props.getProperty("tail_cutter_message"));
-            gameOverMessage = props.getProperty("game_over_message");
-            pauseMessage = props.getProperty("pause_message");
-        }
-        catch(Exception e) {
-            logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-            throw new RuntimeException(e);
-        }
-
+    public GameMessages(GameConfig config) {
+        scoreMessage = config.getScoreMessage();
+        powerUpMessages.add(config.getAppleMessage());
+        powerUpMessages.add(config.getTailCutterMessage());
+        gameOverMessage = config.getGameOverMessage();
+        pauseMessage = config.getPauseMessage();
     }
 
     /**
@@ -40,7 +40,7 @@ public interface GameView {
     void repaintInfoWindow();
 	
 	/**
-	* Repaints game window.
+	* Repaints blocks of game window changed since the previous call.
 	*/
     void repaintGameWindow();
 	
@@ -1,11 +1,13 @@
 package org.jeffersonairplane.view;
 
 import lombok.*;
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
 
+import javax.swing.*;
 import java.awt.*;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Consumer;
 import java.util.logging.*;
 
@@ -16,10 +18,7 @@ public class GameViewImpl implements GameView {
 
 	@Getter
 	private final GameFrame frame;
-	@Getter
-	private final GameWindow gameWindow;
-	@Getter
-	private final InfoWindow infoWindow;
+	private final CompletableFuture<GameplayWindows> gameplayWindows;
 	@Getter
 	private final MenuWindow menuWindow;
 	@Getter @Setter
@@ -28,40 +27,102 @@ public class GameViewImpl implements GameView {
 	private int messageShowFramesDuration;
 	@Getter @Setter
 	private int messageCountdown;
+	private final GameConfig config;
 
 	private final Logger logger = Logger.getLogger(getClass().getName());
 	
+	/**
+	 * Constructor with gameplay elements built already.
+	 * @param frameTitle is an application title.
+	 * @param gameWindow is a playing field element.
+	 * @param infoWindow is an element showing messages during gameplay.
+	 * @param menuWindow is a game main menu element.
+	 * @param messageShowFramesDuration is an amount of frames info message is shown.
+	 * @param config provides power up colors.
+	 */
 	public GameViewImpl(String frameTitle, GameWindow gameWindow, InfoWindow infoWindow,
-						MenuWindow menuWindow, int messageShowFramesDuration) {
+						MenuWindow menuWindow, int messageShowFramesDuration, GameConfig config) {
         if(gameWindow == null || infoWindow == null) {
 			String msg = "GameFrame creation failed.";
 			logger.log(Level.SEVERE, msg);
 			throw new NullPointerException(msg);
 		}
-		this.gameWindow = gameWindow;
-		this.infoWindow = infoWindow;
+		gameplayWindows = CompletableFuture.completedFuture(new GameplayWindows(gameWindow, infoWindow));
 		this.menuWindow = menuWindow;
 		this.messageShowFramesDuration = messageShowFramesDuration;
+		this.config = config;
 		frame = new GameFrame(frameTitle, gameWindow, infoWindow, menuWindow);
 	}
 
-	public GameViewImpl() {
+	/**
+	 * Constructor.
+	 * Shows menu at once, fonts of gameplay elements are loaded on a background thread.
+	 * Gameplay elements are built and added to the frame on event dispatch thread after that.
+	 * @param config provides settings of every UI element.
+	 */
+	public GameViewImpl(GameConfig config) {
+		this.config = config;
+		menuWindow = new MenuWindow(config);
+		messageShowFramesDuration = config.getMessageShowDurationFrames();
+		gameplayWindows = new CompletableFuture<>();
+		frame = new GameFrame(config.getGameFrameTitle(), menuWindow, this::awaitGameplayWindows);
+		CompletableFuture.runAsync(() -> GameplayWindows.preloadFonts(config), GameViewImpl::runInBackground)
+				.whenComplete((ignored, e) -> {
+					if(e != null) logger.log(Level.WARNING, "Gameplay fonts preloading failed. " + e.getCause());
+					SwingUtilities.invokeLater(frame::attachGameplayWindows);
+				});
+	}
+
+	private static void runInBackground(Runnable task) {
+		Thread thread = new Thread(task, "gameplay-ui-builder");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Builds gameplay elements if it is called on event dispatch thread and they are not built yet,
+	 * waits until they are built by event dispatch thread otherwise.
+	 */
+	private GameplayWindows awaitGameplayWindows() {
+		if(!gameplayWindows.isDone() && SwingUtilities.isEventDispatchThread()) {
+			try {
+				gameplayWindows.complete(GameplayWindows.create(config));
+			}
+			catch (RuntimeException e) {
+				gameplayWindows.completeExceptionally(e);
+			}
+		}
 		try {
-			gameWindow = new GameWindow();
-			infoWindow = new InfoWindow();
-			menuWindow = new MenuWindow();
-			Properties props = PropertiesLoader.getProperties();
-			messageShowFramesDuration = Integer.parseInt(props.getProperty("message_show_duration_frames"));
-			frame = new GameFrame(props.getProperty("game_frame_title"), gameWindow, infoWindow, menuWindow);
-		} catch (Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
+			return gameplayWindows.join();
+		}
+		catch (CompletionException e) {
+			String msg = "Gameplay windows creation failed.";
+			logger.log(Level.SEVERE, msg + " " + e.getCause());
+			throw new RuntimeException(msg, e.getCause());
 		}
 	}
 
+	/**
+	 * Getter, waits until gameplay elements are built.
+	 * @return game window (shows playing field).
+	 */
+	@Override
+	public GameWindow getGameWindow() {
+		return awaitGameplayWindows().gameWindow();
+	}
+
+	/**
+	 * Getter, waits until gameplay elements are built.
+	 * @return info window (shows gameplay info: score, tips etc...).
+	 */
+	@Override
+	public InfoWindow getInfoWindow() {
+		return awaitGameplayWindows().infoWindow();
+	}
+
 	@Override
 	public void setSnakeAnimation(Collection<Color> colors) {
-		var animationSet = gameWindow.getSnakeAnimationColorQueue();
+		var animationSet = getGameWindow().getSnakeAnimationColorQueue();
 		for(Color color: colors) {
 			animationSet.offer(color);
 		}
@@ -69,12 +130,13 @@ public class GameViewImpl implements GameView {
 	
 	@Override
 	public void repaintGameWindow() {
-		gameWindow.repaint();
+		getGameWindow().repaintChangedCells();
 	}
 	
 	@Override
 	public void repaintInfoWindow() {
 		if(messageCountdown == 0) {
+			InfoWindow infoWindow = getInfoWindow();
 			String queueMessage = infoWindow.getMessageFromQueue();
 			if(queueMessage != null && !queueMessage.isEmpty()) {
 				infoWindow.showMessage(queueMessage);
@@ -91,28 +153,16 @@ public class GameViewImpl implements GameView {
 
 	@Override
 	public void setPowerUpColors() {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-			PowerUpTypesView.APPLE.setColor(new Color(
-					Integer.parseInt(props.getProperty("apple_color_red")),
-					Integer.parseInt(props.getProperty("apple_color_green")),
-					Integer.parseInt(props.getProperty("apple_color_blue"))));
-			PowerUpTypesView.TAILCUTTER.setColor(new Color(
-					Integer.parseInt(props.getProperty("tail_cutter_color_red")),
-					Integer.parseInt(props.getProperty("tail_cutter_color_green")),
-					Integer.parseInt(props.getProperty("tail_cutter_color_blue"))));
-			logger.log(Level.FINE, "Creation chances set.");
-		}
-		catch (Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-		}
+		PowerUpTypesView.APPLE.setColor(new Color(config.getAppleColor()));
+		PowerUpTypesView.TAILCUTTER.setColor(new Color(config.getTailCutterColor()));
+		logger.log(Level.FINE, "Power up colors set.");
 	}
 
 	@Override
 	public void resetState() {
 		score = 0;
 		messageCountdown = 0;
-		gameWindow.resetState();
+		getGameWindow().resetState();
 	}
 
 	@Override
@@ -1,15 +1,15 @@
 package org.jeffersonairplane.view;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import javax.swing.*;
-import java.io.IOException;
 import java.util.*;
-import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import lombok.*;
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.jfr.PaintGameWindowEvent;
 
 /**
 * UI element - game playing field.
@@ -24,19 +24,65 @@ public class GameWindow extends JPanel {
 	private int indentX;
 	@Getter
 	private int indentY;
-	@Getter @Setter
+	/**
+	 * Left edges of block columns in pixels by block index, from 0 to blocks amount + 1,
+	 * so a snake head one block outside of the field is converted too. Replaced as a whole, never changed.
+	 */
+	private volatile int[] blockLeftEdges;
+	/**
+	 * Top edges of block rows in pixels by block index, from 0 to blocks amount + 1.
+	 */
+	private volatile int[] blockTopEdges;
+	@Getter
     private Color background;
 	@Getter @Setter
 	private Color snakeDefaultColor;
 	@Getter
 	private final Queue<Color> snakeAnimationColorQueue;
-	@Getter @Setter
-	private List<RectangleUpperLeftPoint> snakeShape;
-	@Getter @Setter
-	private Map<PowerUpTypesView, List<RectangleUpperLeftPoint>> powerUps;
+	/**
+	 * Frames passed from the game loop thread to the painting thread without locks and allocation.
+	 */
+	private final TripleBuffer<FrameSnapshot> frames = new TripleBuffer<>(FrameSnapshot::new);
+	/**
+	 * Copy of the latest published frame, compared with the next one to find changed blocks.
+	 * Used by the game loop thread only.
+	 */
+	private final FrameSnapshot requestedFrame = new FrameSnapshot();
+	private final FrameChanges.BlockAction repaintBlock = this::repaintBlock;
+	/**
+	 * In game message drawn by active rendering, replaced as a whole, null when hidden.
+	 * Message label is not touched by active rendering, so it is never changed outside of its thread.
+	 */
+	private volatile InGameMessage activeMessage;
 
 	@Getter
 	private final GameMessages messages;
+	private final Font gameOverFont;
+	private final Color gameOverColor;
+	private final Font pauseFont;
+	private final Color pauseColor;
+	/**
+	 * Guards board layer and raster renderer, they are used by the game loop thread in active rendering mode
+	 * and by event dispatch thread, which also invalidates them.
+	 * Taken after render lock of {@link ActiveRenderingCanvas}, never before it.
+	 */
+	private final Object boardLock = new Object();
+	/**
+	 * Background and grid rendered once, drawn with a single image copy on every repaint.
+	 * Rebuilt when block dimension, colors, size or graphics configuration change. Guarded by board lock.
+	 */
+	private BufferedImage boardLayer;
+	private Color boardLayerGridColor;
+	private GraphicsConfiguration boardLayerConfiguration;
+	/**
+	 * Surface drawn by the game loop thread in active rendering mode, null in Swing repaint mode.
+	 */
+	private ActiveRenderingCanvas activeCanvas;
+	/**
+	 * Renderer writing blocks into image pixels, null if blocks are drawn by Graphics calls.
+	 * Used under board lock only.
+	 */
+	private RasterBoardRenderer rasterRenderer;
 
 	private final Logger logger = Logger.getLogger(getClass().getName());
 	
@@ -47,10 +93,11 @@ public class GameWindow extends JPanel {
 	* @param blocksAmountY is an amount of blocks Y axis.
 	* @param background elements background color.
 	* @param snakeDefaultColor snake color.
+	* @param config provides messages, pause font and color.
 	*/
     public GameWindow(RectangleDimension windowDimension, int blocksAmountX, int blocksAmountY, Color background,
-					  Color snakeDefaultColor, Color gameOverTextColor, Font gameOverLabelFont) {
-		messages = new GameMessages();
+					  Color snakeDefaultColor, Color gameOverTextColor, Font gameOverLabelFont, GameConfig config) {
+		messages = new GameMessages(config);
 		this.setLayout(new GridBagLayout());
         this.setPreferredSize(new Dimension(windowDimension.width(), windowDimension.height()));
         this.setBackground(background);
@@ -61,6 +108,10 @@ public class GameWindow extends JPanel {
 		inGameMessageLabel = new JLabel();
 		inGameMessageLabel.setFont(gameOverLabelFont);
 		inGameMessageLabel.setForeground(gameOverTextColor);
+		gameOverFont = gameOverLabelFont;
+		gameOverColor = gameOverTextColor;
+		pauseFont = new Font(config.getPauseLabelFont().name(), Font.BOLD, config.getPauseLabelFont().size());
+		pauseColor = new Color(config.getPauseTextColor());
 		inGameMessageLabel.setText(messages.getGameOverMessage());
 		inGameMessageLabel.setVisible(false);
 		this.add(inGameMessageLabel);
@@ -68,37 +119,28 @@ public class GameWindow extends JPanel {
     }
 
 	/**
-	 * No args constructor.
-	 * Receives all necessary data from {@link Properties}.
+	 * Constructor.
+	 * Fonts and colors of in game messages are created once here.
+	 * @param config provides sizes, colors and fonts.
 	 */
-	public GameWindow() {
-		try {
-			messages = new GameMessages();
-			this.setLayout(new GridBagLayout());
-			Properties props = PropertiesLoader.getProperties();
-			windowDimension = new RectangleDimension(Integer.parseInt(props.getProperty("game_window_width")),
-					Integer.parseInt(props.getProperty("game_window_height")));
-			this.setPreferredSize(new Dimension(windowDimension.width(), windowDimension.height()));
-			background = new Color(Integer.parseInt(props.getProperty("playing_field_background_color_red")),
-					Integer.parseInt(props.getProperty("playing_field_background_color_green")),
-					Integer.parseInt(props.getProperty("playing_field_background_color_blue")));
-			this.setBackground(background);
-			snakeDefaultColor = new Color(
-					Integer.parseInt(props.getProperty("snake_color_red")),
-					Integer.parseInt(props.getProperty("snake_color_green")),
-					Integer.parseInt(props.getProperty("snake_color_blue")));
-			snakeAnimationColorQueue = new LinkedList<>();
-			inGameMessageLabel = new JLabel();
-
-			inGameMessageLabel.setVisible(false);
-			this.add(inGameMessageLabel);
-			setBlockDimension(Integer.parseInt(props.getProperty("blocks_amount_x")),
-					Integer.parseInt(props.getProperty("blocks_amount_y")));
-		}
-		catch(Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+	public GameWindow(GameConfig config) {
+		messages = new GameMessages(config);
+		this.setLayout(new GridBagLayout());
+		windowDimension = new RectangleDimension(config.getGameWindowWidth(), config.getGameWindowHeight());
+		this.setPreferredSize(new Dimension(windowDimension.width(), windowDimension.height()));
+		background = new Color(config.getPlayingFieldBackgroundColor());
+		this.setBackground(background);
+		snakeDefaultColor = new Color(config.getSnakeColor());
+		snakeAnimationColorQueue = new LinkedList<>();
+		inGameMessageLabel = new JLabel();
+		gameOverFont = new Font(config.getGameOverLabelFont().name(), Font.BOLD, config.getGameOverLabelFont().size());
+		gameOverColor = new Color(config.getGameOverTextColor());
+		pauseFont = new Font(config.getPauseLabelFont().name(), Font.BOLD, config.getPauseLabelFont().size());
+		pauseColor = new Color(config.getPauseTextColor());
+
+		inGameMessageLabel.setVisible(false);
+		this.add(inGameMessageLabel);
+		setBlockDimension(config.getBlocksAmountX(), config.getBlocksAmountY());
 	}
 
 	/**
@@ -109,6 +151,11 @@ public class GameWindow extends JPanel {
 	 * @param textColor is a message color.
 	 */
 	public void showInGameMessage(boolean show, String message, Font textFont, Color textColor) {
+		if(activeCanvas != null) {
+			activeMessage = show ? new InGameMessage(message, textFont, textColor) : null;
+			activeCanvas.render();
+			return;
+		}
 		if(show) {
 			inGameMessageLabel.setFont(textFont);
 			inGameMessageLabel.setText(message);
@@ -117,64 +164,232 @@ public class GameWindow extends JPanel {
 		inGameMessageLabel.setVisible(show);
 	}
 
+	/**
+	 * Switches playing field to active rendering: every frame is drawn whole by {@link #repaintChangedCells()} caller
+	 * through {@link ActiveRenderingCanvas} instead of Swing repaint, in game message is drawn on the canvas as a string.
+	 * Should be called before window is shown, Swing repaint mode is used otherwise.
+	 * @param buffers is an amount of buffers in buffer strategy, 2 or 3.
+	 */
+	public void enableActiveRendering(int buffers) {
+		if(activeCanvas != null) return;
+		activeCanvas = new ActiveRenderingCanvas(this, buffers);
+		activeCanvas.setPreferredSize(new Dimension(windowDimension.width(), windowDimension.height()));
+		activeCanvas.setFocusable(false);
+		remove(inGameMessageLabel);
+		setLayout(new BorderLayout());
+		add(activeCanvas, BorderLayout.CENTER);
+	}
+
+	/**
+	 * Getter
+	 * @return true if playing field is drawn by active rendering.
+	 */
+	public boolean isActiveRendering() {
+		return activeCanvas != null;
+	}
+
+	/**
+	 * Draws the whole playing field: board layer, snake, power ups and in game message if it is shown.
+	 * Used by active rendering, Swing repaint mode paints the message label as a child component.
+	 * Message is drawn as a centered string, so no Swing component is used and any thread may call it.
+	 * Takes the latest published frame, so it should be called by one thread at a time.
+	 * @param graphics to draw on.
+	 */
+	void renderFrame(Graphics graphics) {
+		drawFrame(graphics, frames.readable());
+		InGameMessage message = activeMessage;
+		if(message != null) {
+			graphics.setFont(message.font());
+			graphics.setColor(message.color());
+			FontMetrics metrics = graphics.getFontMetrics();
+			graphics.drawString(message.text(), (getWidth() - metrics.stringWidth(message.text())) / 2,
+					(getHeight() - metrics.getHeight()) / 2 + metrics.getAscent());
+		}
+	}
+
+	private record InGameMessage(String text, Font font, Color color) {}
+
+	/**
+	 * Draws playing field of the frame with raster renderer if it is enabled, block by block otherwise.
+	 */
+	private void drawFrame(Graphics graphics, FrameSnapshot frame) {
+		if(rasterRenderer != null) {
+			// Image pixels are rewritten by the next render, so they are copied before the lock is released.
+			synchronized(boardLock) {
+				graphics.drawImage(rasterRenderer.render(frame), 0, 0, null);
+			}
+			return;
+		}
+		graphics.drawImage(boardLayer(), 0, 0, null);
+		drawSnakeShape(graphics, frame);
+		drawPowerUps(graphics, frame);
+	}
+
+	/**
+	 * Switches drawing of blocks to {@link RasterBoardRenderer}: changed blocks are written into image pixels
+	 * and the field is shown with a single image copy. Image is identical to the one drawn block by block.
+	 * Should be called before window is shown.
+	 */
+	public void enableRasterRendering() {
+		if(rasterRenderer == null) rasterRenderer = new RasterBoardRenderer(this);
+	}
+
+	/**
+	 * Getter
+	 * @return true if blocks are written into image pixels by raster renderer.
+	 */
+	public boolean isRasterRendering() {
+		return rasterRenderer != null;
+	}
+
+	private void repaintAll() {
+		if(activeCanvas != null) activeCanvas.render();
+		else repaint();
+	}
+
+	/**
+	 * Measures in game messages, so font glyphs are loaded before the message is shown first time.
+	 */
+	public void prepareFonts() {
+		getFontMetrics(gameOverFont).stringWidth(messages.getGameOverMessage());
+		getFontMetrics(pauseFont).stringWidth(messages.getPauseMessage());
+	}
+
 	/**
 	 * Shows game over message.
 	 * @param show true to show, false to hide.
 	 */
 	public void showGameOverMessage(boolean show) {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-			Font messageFont = new Font(props.getProperty("game_over_label_font"), Font.BOLD,
-					Integer.parseInt(props.getProperty("game_over_label_font_size")));
-			Color messageColor = new Color(
-					Integer.parseInt(props.getProperty("game_over_text_color_red")),
-					Integer.parseInt(props.getProperty("game_over_text_color_green")),
-					Integer.parseInt(props.getProperty("game_over_text_color_blue")));
-			showInGameMessage(show, messages.getGameOverMessage(), messageFont, messageColor);
-		} catch (IOException e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+		showInGameMessage(show, messages.getGameOverMessage(), gameOverFont, gameOverColor);
 	}
 
+	/**
+	 * Shows pause message.
+	 * @param show true to show, false to hide.
+	 */
 	public void showPauseMessage(boolean show) {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-			Font messageFont = new Font(props.getProperty("pause_label_font"), Font.BOLD,
-					Integer.parseInt(props.getProperty("pause_label_font_size")));
-			Color messageColor = new Color(
-					Integer.parseInt(props.getProperty("pause_text_color_red")),
-					Integer.parseInt(props.getProperty("pause_text_color_green")),
-					Integer.parseInt(props.getProperty("pause_text_color_blue")));
-			showInGameMessage(show, messages.getPauseMessage(), messageFont, messageColor);
-		} catch (IOException e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+		showInGameMessage(show, messages.getPauseMessage(), pauseFont, pauseColor);
 	}
 
 	/**
-	* Calculates width and height of one playing field block.
+	* Calculates width and height of one playing field block and pixel edges of every block row and column.
 	* @param blocksAmountX is an amount of blocks X axis.
 	* @param blocksAmountY is an amount of blocks Y axis.
 	*/
 	public void setBlockDimension(int blocksAmountX, int blocksAmountY) {
 		if(windowDimension == null) throw new NullPointerException();
-		blockDimension = new RectangleDimension(windowDimension.width() / blocksAmountX, windowDimension.height() / blocksAmountY);
-        indentX = (windowDimension.width() - blockDimension.width() * blocksAmountX) / 2;
-		indentY = (windowDimension.height() - blockDimension.height() * blocksAmountY) / 2;
+		synchronized(boardLock) {
+			blockDimension = new RectangleDimension(windowDimension.width() / blocksAmountX, windowDimension.height() / blocksAmountY);
+			indentX = (windowDimension.width() - blockDimension.width() * blocksAmountX) / 2;
+			indentY = (windowDimension.height() - blockDimension.height() * blocksAmountY) / 2;
+			blockLeftEdges = blockEdges(indentX, blockDimension.width(), blocksAmountX);
+			blockTopEdges = blockEdges(indentY, blockDimension.height(), blocksAmountY);
+			boardLayer = null;
+		}
+		repaintAll();
+	}
+
+	private static int[] blockEdges(int indent, int blockSize, int blocksAmount) {
+		int[] edges = new int[blocksAmount + 2];
+		for(int block = 0; block < edges.length; block++) {
+			edges[block] = indent + (block - 1) * blockSize;
+		}
+		return edges;
+	}
+
+	/**
+	 * Getter, table is shared and should not be changed.
+	 * @return left edges of block columns in pixels indexed by block X coordinate, from 0 to blocks amount + 1.
+	 */
+	public int[] getBlockLeftEdges() {
+		return blockLeftEdges;
+	}
+
+	/**
+	 * Getter, table is shared and should not be changed.
+	 * @return top edges of block rows in pixels indexed by block Y coordinate, from 0 to blocks amount + 1.
+	 */
+	public int[] getBlockTopEdges() {
+		return blockTopEdges;
+	}
+
+	/**
+	 * Setter, board layer is rebuilt on the next repaint.
+	 * @param background is a playing field color.
+	 */
+	public void setBackground(Color background) {
+		if(boardLock == null) {
+			// Called by JPanel constructor, nothing is rendered yet.
+			this.background = background;
+			return;
+		}
+		synchronized(boardLock) {
+			this.background = background;
+			boardLayer = null;
+		}
+		repaintAll();
+	}
+
+	/**
+	 * Getter, renders background and grid if they are changed since the last call.
+	 * Image is compatible with the screen the window is shown on, so drawing it is a plain copy.
+	 * Checked and rebuilt under board lock, returned image is never changed afterwards.
+	 * @return image of the playing field without snake and power ups.
+	 */
+	BufferedImage boardLayer() {
+		synchronized(boardLock) {
+			return currentBoardLayer();
+		}
+	}
+
+	private BufferedImage currentBoardLayer() {
+		int width = getWidth() > 0 ? getWidth() : windowDimension.width();
+		int height = getHeight() > 0 ? getHeight() : windowDimension.height();
+		GraphicsConfiguration configuration = getGraphicsConfiguration();
+		Color gridColor = getForeground();
+		if(boardLayer != null && boardLayer.getWidth() == width && boardLayer.getHeight() == height
+				&& configuration == boardLayerConfiguration && Objects.equals(gridColor, boardLayerGridColor)) {
+			return boardLayer;
+		}
+		BufferedImage image = configuration != null
+				? configuration.createCompatibleImage(width, height, Transparency.OPAQUE)
+				: new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setColor(background);
+			graphics.fillRect(0, 0, width, height);
+			graphics.setColor(gridColor);
+			drawGrid(graphics);
+		}
+		finally {
+			graphics.dispose();
+		}
+		boardLayer = image;
+		boardLayerConfiguration = configuration;
+		boardLayerGridColor = gridColor;
+		return image;
 	}
 	
 	/**
 	* Overrides JPanel method to paint game playing field.
+	* Background and grid are copied from the board layer, snake and power ups of the latest published frame are drawn over it,
+	* or the whole field is copied from raster renderer image.
+	* Only blocks intersecting the clip are drawn. Nothing is painted in active rendering mode, canvas covers the field.
 	* @param graphics is a swing class.
 	*/
     @Override
     public void paintComponent(Graphics graphics) {
-        super.paintComponent(graphics);
-        drawGrid(graphics);
-		drawSnakeShape(graphics);
-		drawPowerUps(graphics);
+		if(activeCanvas != null) return;
+		PaintGameWindowEvent event = new PaintGameWindowEvent();
+		event.begin();
+		FrameSnapshot frame = frames.readable();
+		drawFrame(graphics, frame);
+		if(event.shouldCommit()) {
+			event.frame = frame.getFrameNumber();
+			event.snakeLength = frame.getSnakeLength();
+			event.powerUps = frame.getPowerUpsAmount();
+			event.commit();
+		}
     }
 	
 	/**
@@ -192,23 +407,67 @@ public class GameWindow extends JPanel {
 					windowDimension.width() - indentX, indentY + i * blockDimension.height());
         }
 	}
-	
+
 	/**
-	* Draws snake on the playing field.
-	* @param graphics is a swing class.
-	*/
-	public void drawSnakeShape(Graphics graphics) {
-		if(snakeShape == null || snakeShape.isEmpty()) return;
-		Color snakeColor = null;
-		if(!snakeAnimationColorQueue.isEmpty()) {
-			snakeColor = snakeAnimationColorQueue.poll();
+	 * Getter for the game loop thread.
+	 * Snapshot is reused, so its snake and power ups are outdated and should be cleared before filling.
+	 * @return snapshot of the next frame, shown by {@link #repaintChangedCells()}.
+	 */
+	public FrameSnapshot getWritableFrame() {
+		return frames.writable();
+	}
+
+	/**
+	 * Publishes writable frame for painting and requests repaint of blocks changed since the previous frame,
+	 * instead of the whole playing field. Whole frame is drawn at once by the calling thread in active rendering mode.
+	 * Changed blocks are new and vacated snake blocks, created and removed power ups,
+	 * and every snake block if snake color is changed by animation.
+	 * Should be called once per game frame after writable frame is filled, from one thread.
+	 */
+	public void repaintChangedCells() {
+		FrameSnapshot frame = frames.writable();
+		frame.setSnakeColor(snakeAnimationColorQueue.isEmpty() ? snakeDefaultColor : snakeAnimationColorQueue.poll());
+		frames.publish();
+		if(activeCanvas != null) {
+			activeCanvas.render();
 		}
 		else {
-			snakeColor = snakeDefaultColor;
+			repaintChangedBlocks(frame);
 		}
-        for(var point: snakeShape) {
-            graphics.setColor(snakeColor);
-            graphics.fillRect(point.x(), point.y(), blockDimension.width(), blockDimension.height());
+		requestedFrame.copyFrom(frame);
+	}
+
+	/**
+	 * Published frame is not changed until the next publishing, so it is compared after publishing,
+	 * and painting thread never misses blocks requested for repaint.
+	 */
+	private void repaintChangedBlocks(FrameSnapshot frame) {
+		FrameChanges.snakeChanges(requestedFrame, frame, repaintBlock, repaintBlock);
+		FrameChanges.powerUpChanges(requestedFrame, frame, repaintBlock, repaintBlock);
+	}
+
+	private void repaintBlock(int x, int y) {
+		repaint(x, y, blockDimension.width(), blockDimension.height());
+	}
+
+	private boolean isBlockClipped(Rectangle clip, int x, int y) {
+		return clip != null && (x >= clip.x + clip.width || x + blockDimension.width() <= clip.x
+				|| y >= clip.y + clip.height || y + blockDimension.height() <= clip.y);
+	}
+
+	/**
+	* Draws snake of the frame on the playing field.
+	* Blocks outside the clip are skipped.
+	* @param graphics is a swing class.
+	* @param frame is a snapshot to draw.
+	*/
+	public void drawSnakeShape(Graphics graphics, FrameSnapshot frame) {
+		if(frame.getSnakeLength() == 0) return;
+		Rectangle clip = graphics.getClipBounds();
+		graphics.setColor(frame.getSnakeColor() != null ? frame.getSnakeColor() : snakeDefaultColor);
+        for(int i = 0; i < frame.getSnakeLength(); i++) {
+			if(isBlockClipped(clip, frame.snakeX(i), frame.snakeY(i))) continue;
+            graphics.fillRect(frame.snakeX(i), frame.snakeY(i), blockDimension.width(), blockDimension.height());
         }
 	}
 
@@ -216,38 +475,48 @@ public class GameWindow extends JPanel {
 	 * Draws one particular power up on the playing field.
 	 * @param graphics is a swing class.
 	 * @param type is a type of power up.
-	 * @param point is an upper left angle of plying field rectangle.
+	 * @param x is a left edge of plying field rectangle.
+	 * @param y is a top edge of plying field rectangle.
 	 */
-	public void drawPowerUp(Graphics graphics, PowerUpTypesView type, RectangleUpperLeftPoint point) {
+	public void drawPowerUp(Graphics graphics, PowerUpTypesView type, int x, int y) {
 		if(type == null) throw new NullPointerException("Type is null!");
 		graphics.setColor(type.getColor());
 		if(type == PowerUpTypesView.APPLE) {
-			graphics.fillOval(point.x(), point.y(), blockDimension.width(), blockDimension.height());
+			graphics.fillOval(x, y, blockDimension.width(), blockDimension.height());
 		}
 		else if(type == PowerUpTypesView.TAILCUTTER) {
-			graphics.fillRect(point.x(), point.y(), blockDimension.width(), blockDimension.height());
+			graphics.fillRect(x, y, blockDimension.width(), blockDimension.height());
 		}
 	}
 	/**
-	* Draws all power ups that exists on the playing field.
+	* Draws all power ups of the frame on the playing field.
+	* Power ups outside the clip are skipped.
 	* @param graphics is a swing class.
+	* @param frame is a snapshot to draw.
 	*/
-	public void drawPowerUps(Graphics graphics) {
-		if(powerUps == null || powerUps.isEmpty()) return;
-        for(var entry: powerUps.entrySet()) {
-			for(var point: entry.getValue()) {
-				drawPowerUp(graphics, entry.getKey(), point);
-			}
+	public void drawPowerUps(Graphics graphics, FrameSnapshot frame) {
+		if(frame.getPowerUpsAmount() == 0) return;
+		Rectangle clip = graphics.getClipBounds();
+        for(int i = 0; i < frame.getPowerUpsAmount(); i++) {
+			if(isBlockClipped(clip, frame.powerUpX(i), frame.powerUpY(i))) continue;
+			drawPowerUp(graphics, frame.powerUpType(i), frame.powerUpX(i), frame.powerUpY(i));
         }
 	}
 	
 	/**
 	* Erase all animations, snake shape and power ups.
+	* Empty frame is published and whole playing field is repainted.
+	* Should be called when the game loop thread does not draw frames.
 	*/
 	public void resetState() {
 		snakeAnimationColorQueue.clear();
-		snakeShape.clear();
-		powerUps.clear();
+		FrameSnapshot frame = frames.writable();
+		frame.clear();
+		frame.setFrameNumber(0);
+		frame.setSnakeColor(snakeDefaultColor);
+		frames.publish();
+		requestedFrame.copyFrom(frame);
+		repaintAll();
 	}
 
 }
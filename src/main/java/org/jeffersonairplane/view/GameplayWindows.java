@@ -0,0 +1,47 @@
+package org.jeffersonairplane.view;
+
+import org.jeffersonairplane.GameConfig;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+
+/**
+ * UI elements shown during gameplay, built together apart from the menu.
+ * @param gameWindow is a playing field element.
+ * @param infoWindow is an element showing messages during gameplay.
+ */
+public record GameplayWindows(GameWindow gameWindow, InfoWindow infoWindow) {
+
+	/**
+	 * Builds gameplay elements and loads glyphs of their fonts, so the first frame is not delayed by it.
+	 * Playing field uses active and raster rendering if they are switched on by config.
+	 * Elements are Swing components, so it should be called on event dispatch thread.
+	 * @param config provides settings of every UI element.
+	 * @return built elements.
+	 */
+	public static GameplayWindows create(GameConfig config) {
+		GameplayWindows windows = new GameplayWindows(new GameWindow(config), new InfoWindow(config));
+		if(config.isActiveRendering()) windows.gameWindow().enableActiveRendering(config.getRenderBuffers());
+		if(config.isRasterRendering()) windows.gameWindow().enableRasterRendering();
+		windows.gameWindow().prepareFonts();
+		windows.infoWindow().prepareFonts();
+		return windows;
+	}
+
+	/**
+	 * Loads fonts of gameplay elements and glyphs of their messages without any Swing component,
+	 * so it may run on a background thread before {@link #create(GameConfig)}.
+	 * @param config provides fonts and messages.
+	 */
+	public static void preloadFonts(GameConfig config) {
+		GameMessages messages = new GameMessages(config);
+		FontRenderContext context = new FontRenderContext(null, false, false);
+		measure(config.getGameOverLabelFont(), messages.getGameOverMessage(), context);
+		measure(config.getPauseLabelFont(), messages.getPauseMessage(), context);
+		measure(config.getGameplayInfoLabelFont(), messages.getScoreMessage() + "0123456789", context);
+	}
+
+	private static void measure(GameConfig.FontSpec fontSpec, String text, FontRenderContext context) {
+		new Font(fontSpec.name(), Font.BOLD, fontSpec.size()).getStringBounds(text, context);
+	}
+}
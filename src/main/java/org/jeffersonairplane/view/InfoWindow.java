@@ -1,7 +1,7 @@
 package org.jeffersonairplane.view;
 
 import lombok.*;
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
 
 import java.awt.*;
 import java.lang.reflect.Field;
@@ -35,8 +35,14 @@ public class InfoWindow extends JPanel {
 	* @param infoWindowDimension contains width and height of element.
 	* @param background elements background color.
 	* @param textColor messages color.
+	* @param config provides messages.
 	*/
-	public InfoWindow(RectangleDimension infoWindowDimension, Color background, Color textColor, Font textFont) {
+	public InfoWindow(RectangleDimension infoWindowDimension, Color background, Color textColor, Font textFont, GameConfig config) {
+		this(infoWindowDimension, background, textColor, textFont, new GameMessages(config));
+	}
+
+	private InfoWindow(RectangleDimension infoWindowDimension, Color background, Color textColor, Font textFont,
+					   GameMessages messages) {
 		this.background = background;
 		this.textColor = textColor;
 		this.setBackground(background);
@@ -46,42 +52,28 @@ public class InfoWindow extends JPanel {
 		infoLabel.setForeground(textColor);
 		this.add(infoLabel);
 		
-		messages = new GameMessages();
+		this.messages = messages;
 		messagesQueue = new LinkedList<>();
 	}
 
 	/**
-	 * No args constructor.
-	 * Receives all necessary data from {@link Properties}.
+	 * Constructor.
+	 * @param config provides size, colors, font and messages.
 	 */
-	public InfoWindow() {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-			infoLabel = new JLabel();
-			this.setPreferredSize(
-					new Dimension(Integer.parseInt(props.getProperty("game_window_width")),
-							Integer.parseInt(props.getProperty("info_window_height"))));
-			background = new Color(Integer.parseInt(props.getProperty("info_window_background_color_red")),
-					Integer.parseInt(props.getProperty("info_window_background_color_green")),
-					Integer.parseInt(props.getProperty("info_window_background_color_blue")));
-			this.setBackground(background);
-			textColor = new Color(Integer.parseInt(props.getProperty("info_text_color_red")),
-					Integer.parseInt(props.getProperty("info_text_color_green")),
-					Integer.parseInt(props.getProperty("info_text_color_blue")));
-
-			infoLabel.setForeground(textColor);
-			infoLabel.setFont(new Font(props.getProperty("gameplay_info_label_font"), Font.BOLD,
-					Integer.parseInt(props.getProperty("gameplay_info_label_font_size"))));
-			this.add(infoLabel);
-
-			messages = new GameMessages();
-			messagesQueue = new LinkedList<>();
-		}
-		catch(Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+	public InfoWindow(GameConfig config) {
+		this(new RectangleDimension(config.getGameWindowWidth(), config.getInfoWindowHeight()),
+				new Color(config.getInfoWindowBackgroundColor()),
+				new Color(config.getInfoTextColor()),
+				new Font(config.getGameplayInfoLabelFont().name(), Font.BOLD, config.getGameplayInfoLabelFont().size()),
+				new GameMessages(config));
 	}
+	/**
+	 * Measures score message and digits, so font glyphs are loaded before the first message is shown.
+	 */
+	public void prepareFonts() {
+		infoLabel.getFontMetrics(infoLabel.getFont()).stringWidth(messages.getScoreMessage() + "0123456789");
+	}
+
 	/**
 	* Sets new background color for all info window.
 	* @param color to set.
@@ -1,10 +1,9 @@
 package org.jeffersonairplane.view;
 
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.GameConfig;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.function.*;
@@ -68,101 +67,83 @@ public class MenuWindow extends JPanel {
 		}
 	};
 
-	public MenuWindow() {
-		try {
-			Properties props = PropertiesLoader.getProperties();
-			powerUpsAmountChosenLimit = Integer.parseInt(props.getProperty("pu_number_limit"));
-			powerUpsAmountMaxLimit = Integer.parseInt(props.getProperty("pu_number_limit_cap"));
-			mapSize = MapSize.MEDIUM;
-			int btn_width = Integer.parseInt(props.getProperty("btn_preferred_width"));
-			int btn_height = Integer.parseInt(props.getProperty("btn_preferred_height"));
-			startGameButton = setButtonSettings(props.getProperty("start_game_button_title"), btn_width, btn_height);
-			startGameButton.addActionListener(actionListener);
-			powerUpAmountChangerButtonMessage = props.getProperty("power_ups_amount_button_title");
-			powerUpAmountChangerButton = setButtonSettings(powerUpAmountChangerButtonMessage + powerUpsAmountChosenLimit,
-					btn_width, btn_height);
-			powerUpAmountChangerButton.addActionListener(actionListener);
-			fieldSizeButtonMessage = props.getProperty("field_size_button_title");
-			fieldSizeButton = setButtonSettings(fieldSizeButtonMessage + mapSize, btn_width, btn_height);
-			fieldSizeButton.addActionListener(actionListener);
-			exitButton = setButtonSettings(props.getProperty("exit_button_title"), btn_width, btn_height);
-			exitButton.addActionListener(actionListener);
-
-			int width = Integer.parseInt(props.getProperty("game_window_width"));
-			int height = Integer.parseInt(props.getProperty("info_window_height"))
-					+ Integer.parseInt(props.getProperty("game_window_height"));
-			background = new Color(Integer.parseInt(props.getProperty("menu_background_red")),
-					Integer.parseInt(props.getProperty("menu_background_green")),
-					Integer.parseInt(props.getProperty("menu_background_blue")));
-			this.setBackground(background);
-
-			setPreferredSize(new Dimension(width, height));
-			setBackground(background);
-
-			JPanel container = new JPanel();
-			container.setLayout(new BoxLayout(container, BoxLayout.Y_AXIS));
-			JLabel gameLabel = new JLabel(props.getProperty("game_title"));
-			setComponentSize(gameLabel, btn_width, Integer.parseInt(props.getProperty("game_title_preferred_height")));
-			container.add(gameLabel);
-			container.add(Box.createRigidArea(new Dimension(0, 20)));
-			container.add(startGameButton, BorderLayout.CENTER);
-			container.add(Box.createRigidArea(new Dimension(0, 20)));
-			container.add(powerUpAmountChangerButton);
-			container.add(Box.createRigidArea(new Dimension(0, 20)));
-			container.add(fieldSizeButton);
-			container.add(Box.createRigidArea(new Dimension(0, 20)));
-			container.add(exitButton, BorderLayout.CENTER);
-			JLabel controlsExplanation = new JLabel(props.getProperty("controls_explanation_text"));
-			container.add(Box.createRigidArea(new Dimension(0, 20)));
-			setComponentSize(controlsExplanation, btn_width,
-					Integer.parseInt(props.getProperty("controls_explanation_preferred_height")));
-			container.add(controlsExplanation);
-			add(container);
-
-			container.setBackground(background);
-
-			gameTitleColor = new Color(Integer.parseInt(props.getProperty("game_label_foreground_red")),
-					Integer.parseInt(props.getProperty("game_label_foreground_green")),
-					Integer.parseInt(props.getProperty("game_label_foreground_blue")));
-			gameLabel.setForeground(gameTitleColor);
-			gameLabel.setFont(new Font(props.getProperty("game_label_font_title"), Font.BOLD,
-					Integer.parseInt(props.getProperty("game_label_font_size"))));
-
-			controlsExplanationColor = new Color(Integer.parseInt(props.getProperty("controls_explanation_foreground_red")),
-					Integer.parseInt(props.getProperty("controls_explanation_foreground_green")),
-					Integer.parseInt(props.getProperty("controls_explanation_foreground_blue")));
-			controlsExplanation.setForeground(gameTitleColor);
-			controlsExplanation.setFont(new Font(props.getProperty("controls_explanation_font_title"), Font.ITALIC,
-					Integer.parseInt(props.getProperty("controls_explanation_font_size"))));
-		} catch (Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+	/**
+	 * Constructor.
+	 * @param config provides menu titles, sizes, colors and fonts.
+	 */
+	public MenuWindow(GameConfig config) {
+		powerUpsAmountChosenLimit = config.getPowerUpNumberLimit();
+		powerUpsAmountMaxLimit = config.getPowerUpNumberLimitCap();
+		mapSize = MapSize.MEDIUM;
+		int btn_width = config.getButtonPreferredWidth();
+		int btn_height = config.getButtonPreferredHeight();
+		startGameButton = setButtonSettings(config, config.getStartGameButtonTitle(), btn_width, btn_height);
+		startGameButton.addActionListener(actionListener);
+		powerUpAmountChangerButtonMessage = config.getPowerUpsAmountButtonTitle();
+		powerUpAmountChangerButton = setButtonSettings(config, powerUpAmountChangerButtonMessage + powerUpsAmountChosenLimit,
+				btn_width, btn_height);
+		powerUpAmountChangerButton.addActionListener(actionListener);
+		fieldSizeButtonMessage = config.getFieldSizeButtonTitle();
+		fieldSizeButton = setButtonSettings(config, fieldSizeButtonMessage + mapSize, btn_width, btn_height);
+		fieldSizeButton.addActionListener(actionListener);
+		exitButton = setButtonSettings(config, config.getExitButtonTitle(), btn_width, btn_height);
+		exitButton.addActionListener(actionListener);
+
+		int width = config.getGameWindowWidth();
+		int height = config.getInfoWindowHeight() + config.getGameWindowHeight();
+		background = new Color(config.getMenuBackgroundColor());
+		this.setBackground(background);
+
+		setPreferredSize(new Dimension(width, height));
+		setBackground(background);
+
+		JPanel container = new JPanel();
+		container.setLayout(new BoxLayout(container, BoxLayout.Y_AXIS));
+		JLabel gameLabel = new JLabel(config.getGameTitle());
+		setComponentSize(gameLabel, btn_width, config.getGameTitlePreferredHeight());
+		container.add(gameLabel);
+		container.add(Box.createRigidArea(new Dimension(0, 20)));
+		container.add(startGameButton, BorderLayout.CENTER);
+		container.add(Box.createRigidArea(new Dimension(0, 20)));
+		container.add(powerUpAmountChangerButton);
+		container.add(Box.createRigidArea(new Dimension(0, 20)));
+		container.add(fieldSizeButton);
+		container.add(Box.createRigidArea(new Dimension(0, 20)));
+		container.add(exitButton, BorderLayout.CENTER);
+		JLabel controlsExplanation = new JLabel(config.getControlsExplanationText());
+		container.add(Box.createRigidArea(new Dimension(0, 20)));
+		setComponentSize(controlsExplanation, btn_width, config.getControlsExplanationPreferredHeight());
+		container.add(controlsExplanation);
+		add(container);
+
+		container.setBackground(background);
+
+		gameTitleColor = new Color(config.getGameLabelForegroundColor());
+		gameLabel.setForeground(gameTitleColor);
+		gameLabel.setFont(new Font(config.getGameLabelFont().name(), Font.BOLD, config.getGameLabelFont().size()));
+
+		controlsExplanationColor = new Color(config.getControlsExplanationForegroundColor());
+		controlsExplanation.setForeground(gameTitleColor);
+		controlsExplanation.setFont(new Font(config.getControlsExplanationFont().name(), Font.ITALIC,
+				config.getControlsExplanationFont().size()));
 	}
 
-	private void setButtonLook(JButton btn) throws IOException {
-		Properties prop = PropertiesLoader.getProperties();
-		btn.setFocusPainted(Boolean.parseBoolean(prop.getProperty("btn_focus_painted")));
-		btn.setBackground(new Color(Integer.parseInt(prop.getProperty("btn_background_red")),
-				Integer.parseInt(prop.getProperty("btn_background_green")),
-				Integer.parseInt(prop.getProperty("btn_background_blue"))));
-		btn.setForeground(new Color(Integer.parseInt(prop.getProperty("btn_foreground_red")),
-				Integer.parseInt(prop.getProperty("btn_foreground_green")),
-				Integer.parseInt(prop.getProperty("btn_foreground_blue"))));
-		btn.setFont(new Font(prop.getProperty("btn_font_title"),
-				Integer.parseInt(prop.getProperty("btn_font_type")),
-				Integer.parseInt(prop.getProperty("btn_font_size"))));
+	private void setButtonLook(GameConfig config, JButton btn) {
+		btn.setFocusPainted(config.isButtonFocusPainted());
+		btn.setBackground(new Color(config.getButtonBackgroundColor()));
+		btn.setForeground(new Color(config.getButtonForegroundColor()));
+		btn.setFont(new Font(config.getButtonFont().name(), config.getButtonFontType(), config.getButtonFont().size()));
 	}
 
-	private void setComponentSize(JComponent btn, int width, int height) throws IOException {
+	private void setComponentSize(JComponent btn, int width, int height) {
 		btn.setPreferredSize(new Dimension(width, height));
 		btn.setMinimumSize(new Dimension(width, height));
 		btn.setMaximumSize(new Dimension(width, height));
 	}
 
-	private JButton setButtonSettings(String title, int width, int height) throws IOException {
+	private JButton setButtonSettings(GameConfig config, String title, int width, int height) {
 		JButton btn = new JButton(title);
-		setButtonLook(btn);
+		setButtonLook(config, btn);
 		setComponentSize(btn, width, height);
 		return btn;
 	}
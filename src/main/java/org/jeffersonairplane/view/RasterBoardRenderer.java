@@ -0,0 +1,188 @@
+package org.jeffersonairplane.view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * Playing field renderer writing block colors straight into the pixel array of a {@link BufferedImage#TYPE_INT_RGB} image,
+ * instead of one Graphics call per block.
+ * Background and grid are copied from the board layer, power up shapes are rasterized once per block size and color
+ * by {@link GameWindow#drawPowerUp}, so the image is identical to the one drawn block by block.
+ * Only blocks changed since the previous rendered frame are rewritten, so the amount of written pixels does not grow
+ * with snake length. Finding changed blocks and keeping a copy of the rendered frame are still array passes
+ * proportional to snake length and amount of power ups, as is filling the snapshot itself.
+ * Not thread safe: game window uses it under its board lock, because it is called by event dispatch thread
+ * and by the game loop thread in active rendering mode.
+ */
+class RasterBoardRenderer {
+
+	private static final PowerUpTypesView[] TYPES = PowerUpTypesView.values();
+	private static final FrameChanges.BlockAction NOTHING = (x, y) -> {};
+
+	private final GameWindow gameWindow;
+	private BufferedImage image;
+	private int[] pixels;
+	private int[] boardPixels;
+	private BufferedImage renderedBoardLayer;
+	private int blockWidth;
+	private int blockHeight;
+	/**
+	 * Power up shapes as ARGB pixels of one block, fully transparent outside the shape.
+	 */
+	private final int[][] sprites = new int[TYPES.length][];
+	private final Color[] spriteColors = new Color[TYPES.length];
+	/**
+	 * Copy of the latest rendered frame, compared with the next one.
+	 */
+	private final FrameSnapshot rendered = new FrameSnapshot();
+	private FrameSnapshot frame;
+	private int snakeRgb;
+
+	private final FrameChanges.BlockAction restoreBlock = this::restoreBlock;
+	private final FrameChanges.BlockAction fillSnakeBlock = this::fillSnakeBlock;
+	private final FrameChanges.BlockAction removePowerUp = this::removePowerUp;
+
+	/**
+	 * Constructor.
+	 * @param gameWindow provides board layer, block dimension, default snake color and power up shapes.
+	 */
+	RasterBoardRenderer(GameWindow gameWindow) {
+		this.gameWindow = gameWindow;
+	}
+
+	/**
+	 * Brings image up to date with the frame.
+	 * Whole image is rewritten if board layer, block dimension or power up colors are changed.
+	 * @param frame is a snapshot to render.
+	 * @return rendered image, the same instance until its size is changed.
+	 */
+	BufferedImage render(FrameSnapshot frame) {
+		this.frame = frame;
+		Color snakeColor = frame.getSnakeColor() != null ? frame.getSnakeColor() : gameWindow.getSnakeDefaultColor();
+		snakeRgb = snakeColor.getRGB();
+		if(prepare()) {
+			System.arraycopy(boardPixels, 0, pixels, 0, pixels.length);
+			for(int i = 0; i < frame.getSnakeLength(); i++) {
+				fillSnakeBlock(frame.snakeX(i), frame.snakeY(i));
+			}
+		}
+		else {
+			FrameChanges.powerUpChanges(rendered, frame, removePowerUp, NOTHING);
+			FrameChanges.snakeChanges(rendered, frame, restoreBlock, fillSnakeBlock);
+		}
+		for(int i = 0; i < frame.getPowerUpsAmount(); i++) {
+			drawSprite(sprites[frame.powerUpType(i).ordinal()], frame.powerUpX(i), frame.powerUpY(i));
+		}
+		rendered.copyFrom(frame);
+		this.frame = null;
+		return image;
+	}
+
+	/**
+	 * Rebuilds image, board pixels and sprites if they are outdated.
+	 * @return true if image should be rewritten whole.
+	 */
+	private boolean prepare() {
+		BufferedImage boardLayer = gameWindow.boardLayer();
+		RectangleDimension block = gameWindow.getBlockDimension();
+		boolean outdated = boardLayer != renderedBoardLayer
+				|| block.width() != blockWidth || block.height() != blockHeight;
+		for(PowerUpTypesView type: TYPES) {
+			outdated |= !type.getColor().equals(spriteColors[type.ordinal()]);
+		}
+		if(!outdated) return false;
+
+		int width = boardLayer.getWidth();
+		int height = boardLayer.getHeight();
+		if(image == null || image.getWidth() != width || image.getHeight() != height) {
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+			boardPixels = new int[pixels.length];
+		}
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.drawImage(boardLayer, 0, 0, null);
+		}
+		finally {
+			graphics.dispose();
+		}
+		System.arraycopy(pixels, 0, boardPixels, 0, pixels.length);
+		renderedBoardLayer = boardLayer;
+		blockWidth = block.width();
+		blockHeight = block.height();
+		for(PowerUpTypesView type: TYPES) {
+			sprites[type.ordinal()] = rasterize(type);
+			spriteColors[type.ordinal()] = type.getColor();
+		}
+		return true;
+	}
+
+	private int[] rasterize(PowerUpTypesView type) {
+		BufferedImage sprite = new BufferedImage(blockWidth, blockHeight, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = sprite.createGraphics();
+		try {
+			gameWindow.drawPowerUp(graphics, type, 0, 0);
+		}
+		finally {
+			graphics.dispose();
+		}
+		return sprite.getRGB(0, 0, blockWidth, blockHeight, null, 0, blockWidth);
+	}
+
+	private void restoreBlock(int x, int y) {
+		int width = image.getWidth();
+		int fromX = Math.max(x, 0);
+		int toX = Math.min(x + blockWidth, width);
+		int fromY = Math.max(y, 0);
+		int toY = Math.min(y + blockHeight, image.getHeight());
+		if(fromX >= toX) return;
+		for(int row = fromY; row < toY; row++) {
+			System.arraycopy(boardPixels, row * width + fromX, pixels, row * width + fromX, toX - fromX);
+		}
+	}
+
+	private void fillSnakeBlock(int x, int y) {
+		int width = image.getWidth();
+		int fromX = Math.max(x, 0);
+		int toX = Math.min(x + blockWidth, width);
+		int fromY = Math.max(y, 0);
+		int toY = Math.min(y + blockHeight, image.getHeight());
+		for(int row = fromY; row < toY; row++) {
+			int offset = row * width;
+			for(int column = fromX; column < toX; column++) {
+				pixels[offset + column] = snakeRgb;
+			}
+		}
+	}
+
+	/**
+	 * Restores the board under removed power up, snake is drawn again if it occupies the same block.
+	 * Looks through the whole snake, so it costs snake length per removed power up.
+	 */
+	private void removePowerUp(int x, int y) {
+		restoreBlock(x, y);
+		for(int i = 0; i < frame.getSnakeLength(); i++) {
+			if(frame.snakeX(i) == x && frame.snakeY(i) == y) {
+				fillSnakeBlock(x, y);
+				return;
+			}
+		}
+	}
+
+	private void drawSprite(int[] sprite, int x, int y) {
+		int width = image.getWidth();
+		int fromX = Math.max(x, 0);
+		int toX = Math.min(x + blockWidth, width);
+		int fromY = Math.max(y, 0);
+		int toY = Math.min(y + blockHeight, image.getHeight());
+		for(int row = fromY; row < toY; row++) {
+			int offset = row * width;
+			int spriteOffset = (row - y) * blockWidth - x;
+			for(int column = fromX; column < toX; column++) {
+				int argb = sprite[spriteOffset + column];
+				if(argb >>> 24 != 0) pixels[offset + column] = argb;
+			}
+		}
+	}
+}
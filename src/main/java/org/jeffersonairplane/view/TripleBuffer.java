@@ -0,0 +1,72 @@
+package org.jeffersonairplane.view;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free exchange of reusable values between one writer thread and one reader thread.
+ * Writer fills its own back value and publishes it by swapping with the middle one,
+ * reader takes the middle value only if it was published since the last take,
+ * so writer never waits for reader and both never touch the same value at once.
+ * Publishing and taking are one atomic swap each, values are not copied or allocated.
+ * @param <T> is a type of exchanged values.
+ */
+public class TripleBuffer<T> {
+
+	/**
+	 * Flag of the middle slot telling that it was published and not taken yet.
+	 */
+	private static final int FRESH = 4;
+	private static final int INDEX_MASK = 3;
+
+	private final Object[] values = new Object[3];
+	private final AtomicInteger middle = new AtomicInteger(1);
+	/**
+	 * Index of writer value, used by writer thread only.
+	 */
+	private int back = 0;
+	/**
+	 * Index of reader value, used by reader thread only.
+	 */
+	private int front = 2;
+
+	/**
+	 * Constructor.
+	 * @param factory creates each of three values.
+	 */
+	public TripleBuffer(Supplier<T> factory) {
+		for(int i = 0; i < values.length; i++) {
+			values[i] = factory.get();
+		}
+	}
+
+	/**
+	 * Getter for writer thread.
+	 * @return value to fill before {@link #publish()}, its content is commonly outdated.
+	 */
+	@SuppressWarnings("unchecked")
+	public T writable() {
+		return (T) values[back];
+	}
+
+	/**
+	 * Makes writable value the latest one for reader, writer gets a free value instead.
+	 * Previously published value is dropped if reader has not taken it.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Getter for reader thread, takes the latest published value if there is a new one.
+	 * Value stays unchanged until the next call.
+	 * @return the latest published value or the previously taken one.
+	 */
+	@SuppressWarnings("unchecked")
+	public T readable() {
+		if((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return (T) values[front];
+	}
+}
@@ -1,6 +1,7 @@
 package org.jeffersonairplane.viewmodel;
 
-import org.jeffersonairplane.PropertiesLoader;
+import org.jeffersonairplane.*;
+import org.jeffersonairplane.jfr.DrawGameEvent;
 import org.jeffersonairplane.view.*;
 import org.jeffersonairplane.model.*;
 
@@ -8,6 +9,7 @@ import java.awt.*;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -23,7 +25,7 @@ public class GameViewModelImpl implements GameViewModel {
 	private final GameModel model;
 
 	private final Animations animations;
-	private final int frameMilliseconds;
+	private final GameConfigSource configSource;
 	private boolean pause;
 	private boolean gameOver;
 	private boolean terminateGame;
@@ -32,27 +34,44 @@ public class GameViewModelImpl implements GameViewModel {
 	
 	/**
 	 * Constructor.
+	 * Uses default {@link GameConfig}.
 	 * @param view is a view part of program.
 	 * @param animations is a snake animations storage.
 	 */
 	public GameViewModelImpl(GameView view, Animations animations) {
-		try {
-			model = new GameModelImpl();
-			this.animations = animations;
-			this.view = view;
-			this.view.setSettingsSetter(this::setSettings);
-			this.view.setGameRunner(this::runGameplay);
-			this.view.getFrame().setMovement(model::changeSnakeDirection);
-			this.view.getFrame().setRerun(this::rerunAfterGameOver);
-			this.view.getFrame().setTogglePause(this::togglePause);
-			this.view.getFrame().setToMenu(this::switchToMenu);
-			this.view.getFrame().setGameplayInputs();
-			frameMilliseconds = Integer.parseInt(PropertiesLoader.getProperties().getProperty("frame_milliseconds"));
-			model.registerPowerUpTakenObserver(this);
-		} catch (Exception e) {
-			logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-			throw new RuntimeException(e);
-		}
+		this(view, animations, GameConfig.getDefault());
+	}
+
+	/**
+	 * Constructor.
+	 * @param view is a view part of program.
+	 * @param animations is a snake animations storage.
+	 * @param config is a game settings shared with model.
+	 */
+	public GameViewModelImpl(GameView view, Animations animations, GameConfig config) {
+		this(view, animations, new GameConfigSource(config));
+	}
+
+	/**
+	 * Constructor.
+	 * Frame duration and model settings follow snapshots published by source.
+	 * @param view is a view part of program.
+	 * @param animations is a snake animations storage.
+	 * @param configSource is a source of game settings shared with model.
+	 */
+	public GameViewModelImpl(GameView view, Animations animations, GameConfigSource configSource) {
+		this.configSource = configSource;
+		model = new GameModelImpl(configSource);
+		this.animations = animations;
+		this.view = view;
+		this.view.setSettingsSetter(this::setSettings);
+		this.view.setGameRunner(this::runGameplay);
+		this.view.getFrame().setMovement(model::changeSnakeDirection);
+		this.view.getFrame().setRerun(this::rerunAfterGameOver);
+		this.view.getFrame().setTogglePause(this::togglePause);
+		this.view.getFrame().setToMenu(this::switchToMenu);
+		this.view.getFrame().setGameplayInputs();
+		model.registerPowerUpTakenObserver(this);
 	}
 
 	/**
@@ -66,15 +85,22 @@ public class GameViewModelImpl implements GameViewModel {
 
 	/**
 	 * Converts model coordinate (means particular rectangle on the grid) to its upper left corner point.
+	 * Edges are read from View lookup tables, coordinates beyond them are calculated.
 	 * @param blockCoordinate is a particular rectangle on the grid.
 	 * @return {@link org.jeffersonairplane.view.RectangleUpperLeftPoint} rectangle upper left corner point.
 	 */
 	public RectangleUpperLeftPoint blockToPixelCoordinateConversion(Coordinate blockCoordinate) {
-		RectangleDimension blockDimension = view.getGameWindow().getBlockDimension();
-		int indentX = view.getGameWindow().getIndentX();
-		int indentY = view.getGameWindow().getIndentY();
-		return new RectangleUpperLeftPoint(indentX + (blockCoordinate.xCoord() - 1) * blockDimension.width(),
-			indentY + (blockCoordinate.yCoord() - 1) * blockDimension.height());
+		GameWindow gameWindow = view.getGameWindow();
+		return new RectangleUpperLeftPoint(
+				blockEdge(gameWindow.getBlockLeftEdges(), blockCoordinate.xCoord(), gameWindow.getBlockDimension().width()),
+				blockEdge(gameWindow.getBlockTopEdges(), blockCoordinate.yCoord(), gameWindow.getBlockDimension().height()));
+	}
+
+	/**
+	 * Reads block edge from lookup table, extrapolates it from the first table entry if block is out of table.
+	 */
+	private static int blockEdge(int[] edges, int block, int blockSize) {
+		return block >= 0 && block < edges.length ? edges[block] : edges[0] + block * blockSize;
 	}
 	
 	/**
@@ -89,43 +115,70 @@ public class GameViewModelImpl implements GameViewModel {
 	}
 	
 	/**
-	 * Converts snake blocks to points and sends List of {@link org.jeffersonairplane.view.RectangleUpperLeftPoint} to View.
+	 * Converts snake blocks to points with View lookup tables and writes them to the next frame snapshot of View.
+	 * Nothing is allocated, snapshot arrays are reused.
 	 */
 	public void setSnakeDataForPainting() {
-		var snakeForPainting = new ArrayList<RectangleUpperLeftPoint>();
-		for(Coordinate coordinate : model.getSnake().getSnakeBlocks()) {
-			snakeForPainting.add(blockToPixelCoordinateConversion(coordinate));
+		GameWindow gameWindow = view.getGameWindow();
+		RectangleDimension blockDimension = gameWindow.getBlockDimension();
+		int[] leftEdges = gameWindow.getBlockLeftEdges();
+		int[] topEdges = gameWindow.getBlockTopEdges();
+		FrameSnapshot frame = gameWindow.getWritableFrame();
+		frame.clearSnake();
+		Snake snake = model.getSnake();
+		for(int i = 0; i < snake.size(); i++) {
+			int cell = snake.cellAt(i);
+			frame.addSnakeBlock(blockEdge(leftEdges, CellId.x(cell), blockDimension.width()),
+					blockEdge(topEdges, CellId.y(cell), blockDimension.height()));
 		}
-		view.getGameWindow().setSnakeShape(snakeForPainting);
 	}
 	
 	/**
-	 * Creates map of types as a keys and collection of {@link org.jeffersonairplane.view.RectangleUpperLeftPoint} as values for every existing power up.
-	 * Sends map ti View for painting.
+	 * Converts every existing power up to its type and point with View lookup tables
+	 * and writes them to the next frame snapshot of View.
+	 * Nothing is allocated, snapshot arrays are reused.
 	 */
 	public void setPowerUpsDataForPainting() {
-		var powerUpsForPainting = new HashMap<PowerUpTypesView, List<RectangleUpperLeftPoint>>();
-		for(var powerUp : model.getPowerUps()) {
+		GameWindow gameWindow = view.getGameWindow();
+		RectangleDimension blockDimension = gameWindow.getBlockDimension();
+		int[] leftEdges = gameWindow.getBlockLeftEdges();
+		int[] topEdges = gameWindow.getBlockTopEdges();
+		FrameSnapshot frame = gameWindow.getWritableFrame();
+		frame.clearPowerUps();
+		List<PowerUp> powerUps = model.getPowerUps();
+		for(int i = 0; i < powerUps.size(); i++) {
+			PowerUp powerUp = powerUps.get(i);
 			PowerUpTypesView type = powerUpTypeConversion(powerUp);
 			if(type == null) throw new NullPointerException("Power up type is null after conversion.");
-			if(!powerUpsForPainting.containsKey(type)) {
-				powerUpsForPainting.put(type, new ArrayList<>());
-			}
-			var collection = powerUpsForPainting.get(type);
-			collection.add(blockToPixelCoordinateConversion(powerUp.getPoint()));
+			Coordinate point = powerUp.getPoint();
+			frame.addPowerUp(type, blockEdge(leftEdges, point.xCoord(), blockDimension.width()),
+					blockEdge(topEdges, point.yCoord(), blockDimension.height()));
 		}
-		view.getGameWindow().setPowerUps(powerUpsForPainting);
 	}
 	
 	/**
 	 * Redraws playing field, snake and power ups.
+	 * Drawing is timed as {@link TickProfiler.Phase#DRAW} phase.
+	 * Drawing is reported as {@link DrawGameEvent} to Java Flight Recorder if the event is enabled.
 	 */
 	@Override
 	public void drawGame() {
+		DrawGameEvent event = new DrawGameEvent();
+		event.begin();
+		TickProfiler profiler = model.getTickProfiler();
+		long mark = profiler.start();
+		view.getGameWindow().getWritableFrame().setFrameNumber(model.getFramesCounter());
 		setSnakeDataForPainting();
 		setPowerUpsDataForPainting();
 		view.repaintGameWindow();
 		view.repaintInfoWindow();
+		profiler.lap(TickProfiler.Phase.DRAW, mark);
+		if(event.shouldCommit()) {
+			event.frame = model.getFramesCounter();
+			event.snakeLength = model.getSnake().size();
+			event.powerUps = model.getPowerUps().size();
+			event.commit();
+		}
 	}
 	/**
 	 * Represents one frame game iteration: logic + painting.
@@ -137,8 +190,10 @@ public class GameViewModelImpl implements GameViewModel {
 				if(!gameOver) {
 					gameOver = model.oneFrameGameAction();
 					if(gameOver) {
-						view.getGameWindow().getPowerUps().clear();
 						view.getGameWindow().getSnakeAnimationColorQueue().clear();
+						view.getGameWindow().getWritableFrame().setFrameNumber(model.getFramesCounter());
+						setSnakeDataForPainting();
+						view.getGameWindow().getWritableFrame().clearPowerUps();
 						view.repaintGameWindow();
 						view.getGameWindow().showGameOverMessage(true);
 						return true;
@@ -181,14 +236,37 @@ public class GameViewModelImpl implements GameViewModel {
 
 	/**
 	 * Runs gameplay process.
+	 * Every frame schedules the next one, so changed frame duration is used from the next frame.
 	 */
 	@Override
 	public void runGameplay() {
-		var executor = Executors.newScheduledThreadPool(1);
-		executor.scheduleAtFixedRate(() -> {
+		var executor = Executors.newSingleThreadScheduledExecutor();
+		executor.schedule(new GameplayLoop(executor), 50, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Runs frames at fixed rate measured from the first frame, frame duration is reread every frame.
+	 */
+	private class GameplayLoop implements Runnable {
+
+		private final ScheduledExecutorService executor;
+		private long nextFrameNanos;
+
+		private GameplayLoop(ScheduledExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void run() {
+			if(nextFrameNanos == 0) nextFrameNanos = System.nanoTime();
 			boolean gameOver = gameOneFrame();
-			if(gameOver || terminateGame) executor.shutdown();
-		}, 50, frameMilliseconds, TimeUnit.MILLISECONDS);
+			if(gameOver || terminateGame) {
+				executor.shutdown();
+				return;
+			}
+			nextFrameNanos += TimeUnit.MILLISECONDS.toNanos(configSource.get().getFrameMilliseconds());
+			executor.schedule(this, Math.max(nextFrameNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+		}
 	}
 
 	/**
@@ -202,21 +280,16 @@ public class GameViewModelImpl implements GameViewModel {
 			model.resetState();
 			view.setScore(0);
 			view.getInfoWindow().getMessagesQueue().clear();
-			try {
-				Properties props = PropertiesLoader.getProperties();
-				int xAxisBlocks = Integer.parseInt(props.getProperty("blocks_amount_x"));
-				int yAxisBlocks = Integer.parseInt(props.getProperty("blocks_amount_y"));
-				model.getSnakeManager().fillSnake(
-						Integer.parseInt(props.getProperty("initial_snake_size")),
-						new Coordinate(xAxisBlocks / 2, yAxisBlocks / 2),
-						Direction.RIGHT,
-						xAxisBlocks,
-						yAxisBlocks);
-				runGameplay();
-			} catch (Exception e) {
-				logger.log(Level.SEVERE, e.getMessage() + " " + Arrays.toString(e.getStackTrace()));
-				throw new RuntimeException(e);
-			}
+			GameConfig config = configSource.get();
+			int xAxisBlocks = config.getBlocksAmountX();
+			int yAxisBlocks = config.getBlocksAmountY();
+			model.getSnakeManager().fillSnake(
+					config.getInitialSnakeSize(),
+					new Coordinate(xAxisBlocks / 2, yAxisBlocks / 2),
+					Direction.RIGHT,
+					xAxisBlocks,
+					yAxisBlocks);
+			runGameplay();
 		}
 	}
 	/**
@@ -0,0 +1,74 @@
+package org.jeffersonairplane;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameConfigSourceTest {
+
+	@TempDir
+	Path directory;
+
+	private Path file;
+
+	@BeforeEach
+	void initialization() throws IOException {
+		file = directory.resolve("snake.properties");
+		Files.writeString(file, "snake_move_delay = 9\n");
+	}
+
+	@Test
+	void fixedConfigTest() {
+		GameConfig config = GameConfig.getDefault();
+		GameConfigSource source = new GameConfigSource(config);
+		assertTrue(source.get() == config && !source.isReloadable() && !source.reload());
+	}
+
+	@Test
+	void externalFileOverridesBundledTest() {
+		GameConfig config = new GameConfigSource(file).get();
+		assertTrue(config.getSnakeMoveDelay() == 9
+				&& config.getBlocksAmountX() == GameConfig.getDefault().getBlocksAmountX());
+	}
+
+	@Test
+	void reloadPublishesNewSnapshotTest() throws IOException {
+		GameConfigSource source = new GameConfigSource(file);
+		GameConfig old = source.get();
+		Files.writeString(file, "snake_move_delay = 3\n");
+		assertTrue(source.reload());
+		assertTrue(source.get() != old && source.get().getSnakeMoveDelay() == 3);
+	}
+
+	@Test
+	void invalidFileKeepsSnapshotTest() throws IOException {
+		GameConfigSource source = new GameConfigSource(file);
+		GameConfig old = source.get();
+		Files.writeString(file, "snake_move_delay = fast\n");
+		assertFalse(source.reload());
+		assertSame(old, source.get());
+	}
+
+	@Test
+	void invalidFileOnStartTest() throws IOException {
+		Files.writeString(file, "frame_milliseconds = 0\n");
+		assertThrows(IllegalArgumentException.class, () -> new GameConfigSource(file));
+	}
+
+	@Test
+	void watcherReloadsChangedFileTest() throws IOException, InterruptedException {
+		try(GameConfigSource source = new GameConfigSource(file)) {
+			source.start();
+			Files.writeString(file, "snake_move_delay = 4\n");
+			long deadline = System.nanoTime() + 20_000_000_000L;
+			while(source.get().getSnakeMoveDelay() != 4 && System.nanoTime() < deadline) {
+				Thread.sleep(20);
+			}
+			assertEquals(4, source.get().getSnakeMoveDelay());
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package org.jeffersonairplane;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+class GameConfigTest {
+
+	private Properties props;
+
+	@BeforeEach
+	void initialization() throws IOException {
+		props = PropertiesLoader.getProperties();
+	}
+
+	@Test
+	void loadedValuesTest() {
+		GameConfig config = new GameConfig(props);
+		assertTrue(config.getBlocksAmountX() == Integer.parseInt(props.getProperty("blocks_amount_x"))
+				&& config.getFrameMilliseconds() == Integer.parseInt(props.getProperty("frame_milliseconds"))
+				&& config.getPauseMessage().equals(props.getProperty("pause_message")));
+	}
+
+	@Test
+	void colorPackedTest() {
+		props.setProperty("snake_color_red", "1");
+		props.setProperty("snake_color_green", "2");
+		props.setProperty("snake_color_blue", "3");
+		assertEquals(0x010203, new GameConfig(props).getSnakeColor());
+	}
+
+	@Test
+	void defaultSharedTest() {
+		assertSame(GameConfig.getDefault(), GameConfig.getDefault());
+	}
+
+	@ParameterizedTest
+	@MethodSource("badPropertiesArgs")
+	void badPropertyTest(String key, String value) {
+		if(value == null) props.remove(key);
+		else props.setProperty(key, value);
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new GameConfig(props));
+		assertTrue(e.getMessage().contains(key));
+	}
+
+	static Stream<Arguments> badPropertiesArgs() {
+		return Stream.of(
+				arguments("blocks_amount_x", null),
+				arguments("blocks_amount_x", "ten"),
+				arguments("frame_milliseconds", "0"),
+				arguments("snake_color_red", "256"),
+				arguments("pu_creation_delay_max", "-1"),
+				arguments("apple_higher_limit", "101"),
+				arguments("btn_focus_painted", "maybe"),
+				arguments("active_rendering", "yes"),
+				arguments("render_buffers", "4"),
+				arguments("raster_rendering", null)
+		);
+	}
+}
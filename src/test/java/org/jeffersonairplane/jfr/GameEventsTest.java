@@ -0,0 +1,77 @@
+package org.jeffersonairplane.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
+import org.jeffersonairplane.model.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventsTest {
+
+	@TempDir
+	Path directory;
+
+	private GameModelImpl model;
+
+	@BeforeEach
+	void initialization() {
+		model = new GameModelImpl();
+		model.setDimension(new FieldDimension(20, 20));
+		model.initializeSnakeManager();
+		model.initializePowerUpManager();
+		model.getSnakeManager().setSnakeMovementRhythm(1);
+	}
+
+	private static final List<String> GAME_EVENTS = List.of(
+			"org.jeffersonairplane.GameTick",
+			"org.jeffersonairplane.SnakeStep",
+			"org.jeffersonairplane.PowerUpSpawn",
+			"org.jeffersonairplane.DrawGame",
+			"org.jeffersonairplane.PaintGameWindow");
+
+	private List<RecordedEvent> record(String... eventNames) throws IOException {
+		Path file = directory.resolve("game.jfr");
+		List<String> enabled = List.of(eventNames);
+		try(Recording recording = new Recording()) {
+			for(String name: GAME_EVENTS) {
+				if(enabled.contains(name)) recording.enable(name);
+				else recording.disable(name);
+			}
+			recording.start();
+			for(int i = 0; i < 5; i++) {
+				model.oneFrameGameAction();
+			}
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file);
+	}
+
+	@Test
+	void enabledEventsRecordedTest() throws IOException {
+		List<RecordedEvent> events = record("org.jeffersonairplane.GameTick", "org.jeffersonairplane.SnakeStep");
+		long ticks = events.stream().filter(e -> e.getEventType().getName().equals("org.jeffersonairplane.GameTick")).count();
+		long steps = events.stream().filter(e -> e.getEventType().getName().equals("org.jeffersonairplane.SnakeStep")).count();
+		assertTrue(ticks == 5 && steps == 5);
+		RecordedEvent last = events.stream()
+				.filter(e -> e.getEventType().getName().equals("org.jeffersonairplane.GameTick"))
+				.max(Comparator.comparingLong(e -> e.getLong("frame")))
+				.orElseThrow();
+		assertTrue(last.getLong("frame") == 5 && last.getInt("snakeLength") == model.getSnake().size());
+	}
+
+	@Test
+	void disabledEventsNotRecordedTest() throws IOException {
+		List<String> gameEvents = record("org.jeffersonairplane.SnakeStep").stream()
+				.map(e -> e.getEventType().getName())
+				.filter(name -> name.startsWith("org.jeffersonairplane."))
+				.toList();
+		assertTrue(gameEvents.size() == 5 && gameEvents.stream().allMatch(name -> name.equals("org.jeffersonairplane.SnakeStep")));
+	}
+}
@@ -0,0 +1,132 @@
+package org.jeffersonairplane.logging;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncHandlerTest {
+
+	/**
+	 * Collects records, may hold writer thread until released.
+	 */
+	private static class CollectingHandler extends Handler {
+		final List<LogRecord> records = new CopyOnWriteArrayList<>();
+		final CountDownLatch release;
+		volatile int flushes;
+		volatile boolean closed;
+
+		CollectingHandler(boolean blocked) {
+			release = new CountDownLatch(blocked ? 1 : 0);
+		}
+
+		@Override
+		public void publish(LogRecord record) {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			records.add(record);
+		}
+
+		@Override
+		public void flush() {
+			++flushes;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static LogRecord record(int i) {
+		return new LogRecord(Level.INFO, "Record " + i);
+	}
+
+	@Test
+	void recordsWrittenInOrderTest() {
+		CollectingHandler target = new CollectingHandler(false);
+		AsyncHandler handler = new AsyncHandler(target, 1024, AsyncHandler.OverflowPolicy.DROP, 16);
+		for(int i = 0; i < 100; i++) {
+			handler.publish(record(i));
+		}
+		handler.flush();
+		assertEquals(100, target.records.size());
+		for(int i = 0; i < 100; i++) {
+			assertEquals("Record " + i, target.records.get(i).getMessage());
+		}
+		assertTrue(target.flushes > 0 && handler.getDroppedCount() == 0);
+		handler.close();
+		assertTrue(target.closed);
+	}
+
+	@Test
+	void callerResolvedOnLoggingThreadTest() {
+		CollectingHandler target = new CollectingHandler(false);
+		AsyncHandler handler = new AsyncHandler(target, 16, AsyncHandler.OverflowPolicy.DROP, 16);
+		Logger logger = Logger.getLogger("async.handler.test.caller");
+		logger.setUseParentHandlers(false);
+		logger.addHandler(handler);
+		logger.info("caller");
+		handler.close();
+		logger.removeHandler(handler);
+		assertEquals(getClass().getName(), target.records.get(0).getSourceClassName());
+	}
+
+	@Test
+	void dropPolicyCountsDroppedTest() {
+		CollectingHandler target = new CollectingHandler(true);
+		AsyncHandler handler = new AsyncHandler(target, 8, AsyncHandler.OverflowPolicy.DROP, 4);
+		for(int i = 0; i < 100; i++) {
+			handler.publish(record(i));
+		}
+		long dropped = handler.getDroppedCount();
+		assertTrue(dropped >= 100 - 8 - 1);
+		target.release.countDown();
+		handler.close();
+		int warnings = 1;
+		assertEquals(100 - dropped + warnings, target.records.size());
+		assertTrue(target.records.get(target.records.size() - 1).getMessage().contains(Long.toString(dropped)));
+	}
+
+	@Test
+	void blockPolicyKeepsEveryRecordTest() throws InterruptedException {
+		CollectingHandler target = new CollectingHandler(true);
+		AsyncHandler handler = new AsyncHandler(target, 8, AsyncHandler.OverflowPolicy.BLOCK, 4);
+		Thread producer = new Thread(() -> {
+			for(int i = 0; i < 100; i++) {
+				handler.publish(record(i));
+			}
+		});
+		producer.start();
+		producer.join(200);
+		assertTrue(producer.isAlive());
+		target.release.countDown();
+		producer.join(5000);
+		handler.close();
+		assertTrue(handler.getDroppedCount() == 0 && target.records.size() == 100);
+	}
+
+	@Test
+	void levelFilterTest() {
+		CollectingHandler target = new CollectingHandler(false);
+		AsyncHandler handler = new AsyncHandler(target, 8, AsyncHandler.OverflowPolicy.DROP, 4);
+		handler.setLevel(Level.WARNING);
+		handler.publish(record(1));
+		handler.close();
+		assertTrue(target.records.isEmpty());
+	}
+
+	@Test
+	void badArgumentsTest() {
+		CollectingHandler target = new CollectingHandler(false);
+		assertThrows(IllegalArgumentException.class, () -> new AsyncHandler(target, 0, AsyncHandler.OverflowPolicy.DROP, 1));
+		assertThrows(NullPointerException.class, () -> new AsyncHandler(null, 8, AsyncHandler.OverflowPolicy.DROP, 1));
+	}
+}
@@ -0,0 +1,67 @@
+package org.jeffersonairplane.logging;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedQueueTest {
+
+	@Test
+	void capacityRoundedTest() {
+		assertTrue(new BoundedQueue<>(5).capacity() == 8 && new BoundedQueue<>(8).capacity() == 8);
+	}
+
+	@Test
+	void firstInFirstOutTest() {
+		BoundedQueue<Integer> queue = new BoundedQueue<>(4);
+		for(int lap = 0; lap < 3; lap++) {
+			for(int i = 0; i < 4; i++) {
+				assertTrue(queue.offer(i));
+			}
+			assertFalse(queue.offer(4));
+			assertEquals(4, queue.size());
+			for(int i = 0; i < 4; i++) {
+				assertEquals(i, queue.poll());
+			}
+			assertNull(queue.poll());
+		}
+	}
+
+	@Test
+	@Timeout(10)
+	void manyProducersTest() throws InterruptedException {
+		BoundedQueue<Integer> queue = new BoundedQueue<>(64);
+		int producers = 4, perProducer = 2_000;
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		for(int p = 0; p < producers; p++) {
+			int first = p * perProducer;
+			executor.execute(() -> {
+				for(int i = first; i < first + perProducer; i++) {
+					while(!queue.offer(i)) Thread.yield();
+				}
+			});
+		}
+		BitSet seen = new BitSet();
+		int[] lastOfProducer = new int[producers];
+		Arrays.fill(lastOfProducer, -1);
+		for(int taken = 0; taken < producers * perProducer; ) {
+			Integer value = queue.poll();
+			if(value == null) {
+				// Backs off, so producers get the processor on machines with few cores.
+				Thread.onSpinWait();
+				Thread.yield();
+				continue;
+			}
+			assertFalse(seen.get(value));
+			assertTrue(value > lastOfProducer[value / perProducer]);
+			lastOfProducer[value / perProducer] = value;
+			seen.set(value);
+			++taken;
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS) && queue.poll() == null);
+	}
+}
@@ -0,0 +1,66 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class AliasTableTest {
+
+	static Stream<Arguments> badWeightsTestSource() {
+		return Stream.of(
+			arguments((Object) null),
+			arguments((Object) new double[0]),
+			arguments((Object) new double[]{1, -1}),
+			arguments((Object) new double[]{1, Double.NaN}),
+			arguments((Object) new double[]{1, Double.POSITIVE_INFINITY}),
+			arguments((Object) new double[]{Double.MAX_VALUE, Double.MAX_VALUE})
+		);
+	}
+	@ParameterizedTest
+	@MethodSource("badWeightsTestSource")
+	void badWeightsTest(double[] weights) {
+		assertThrows(IllegalArgumentException.class, () -> new AliasTable(weights));
+	}
+
+	@Test
+	void zeroWeightNeverPickedTest() {
+		AliasTable table = new AliasTable(new double[]{0.1, 0, 0.7, 0});
+		Random rnd = new Random(1);
+		for(int i = 0; i < 10000; i++) {
+			int index = table.sample(rnd);
+			assertTrue(index == 0 || index == 2);
+		}
+	}
+
+	@Test
+	void allZeroWeightsTest() {
+		AliasTable table = new AliasTable(new double[]{0, 0, 0});
+		Random rnd = new Random(1);
+		Set<Integer> picked = new HashSet<>();
+		for(int i = 0; i < 1000; i++) {
+			picked.add(table.sample(rnd));
+		}
+		assertEquals(Set.of(0, 1, 2), picked);
+	}
+
+	@Test
+	void proportionalPicksTest() {
+		double[] weights = {0.5, 2.5, 1, 6};
+		AliasTable table = new AliasTable(weights);
+		int[] counts = new int[weights.length];
+		Random rnd = new Random(42);
+		int draws = 200000;
+		for(int i = 0; i < draws; i++) {
+			++counts[table.sample(rnd)];
+		}
+		for(int i = 0; i < weights.length; i++) {
+			assertEquals(weights[i] / 10, (double) counts[i] / draws, 0.01);
+		}
+	}
+}
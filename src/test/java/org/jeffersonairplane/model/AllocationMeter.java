@@ -0,0 +1,38 @@
+package org.jeffersonairplane.model;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts bytes allocated by the current thread, uses HotSpot {@link com.sun.management.ThreadMXBean}.
+ */
+class AllocationMeter {
+
+	private final com.sun.management.ThreadMXBean threads;
+
+	AllocationMeter() {
+		if(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+				&& bean.isThreadAllocatedMemorySupported()) {
+			bean.setThreadAllocatedMemoryEnabled(true);
+			threads = bean;
+		}
+		else {
+			threads = null;
+		}
+	}
+
+	/**
+	 * Getter
+	 * @return true if JVM counts allocated bytes per thread.
+	 */
+	boolean isSupported() {
+		return threads != null;
+	}
+
+	/**
+	 * Getter, reading the counter allocates nothing.
+	 * @return bytes allocated by the current thread since it started.
+	 */
+	long allocatedBytes() {
+		return threads.getCurrentThreadAllocatedBytes();
+	}
+}
@@ -19,12 +19,12 @@ class AppleTest {
 	void influenceTest() {
 		Snake estimate = new Snake();
 		for(int i = 10; i > 0; i--) {
-			estimate.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
-			snake.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
+			estimate.addTail(new Coordinate(i, 1));
+			snake.addTail(new Coordinate(i, 1));
 		}
-		Coordinate tail = estimate.getSnakeBlocks().peekFirst();
+		Coordinate tail = estimate.getTail();
 		if(tail == null) throw new NullPointerException("Estimate snake tail is null");
-		estimate.getSnakeBlocks().offerFirst(new Coordinate(tail.xCoord(), tail.yCoord()));
+		estimate.addTail(new Coordinate(tail.xCoord(), tail.yCoord()));
 		
 		apple.influence(snake);
 		
@@ -0,0 +1,46 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class CellIdTest {
+
+	static Stream<Arguments> packAndUnpackTestSource() {
+		return Stream.of(
+			arguments(0, 0),
+			arguments(1, 1),
+			arguments(1000, 1000),
+			arguments(-1, 5),
+			arguments(5, -1),
+			arguments(Short.MIN_VALUE, Short.MAX_VALUE),
+			arguments(Short.MAX_VALUE, Short.MIN_VALUE)
+		);
+	}
+	@ParameterizedTest
+	@MethodSource("packAndUnpackTestSource")
+	void packAndUnpackTest(int x, int y) {
+		int cell = CellId.of(x, y);
+		assertTrue(CellId.x(cell) == x && CellId.y(cell) == y);
+		assertEquals(new Coordinate(x, y), CellId.toCoordinate(cell));
+	}
+
+	@ParameterizedTest
+	@MethodSource("packAndUnpackTestSource")
+	void uniqueIdTest(int x, int y) {
+		Set<Integer> ids = new HashSet<>();
+		for(int dx = -1; dx <= 1; dx++) {
+			for(int dy = -1; dy <= 1; dy++) {
+				ids.add(CellId.of(x + dx, y + dy));
+			}
+		}
+		if(x > Short.MIN_VALUE && x < Short.MAX_VALUE && y > Short.MIN_VALUE && y < Short.MAX_VALUE) {
+			assertEquals(9, ids.size());
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package org.jeffersonairplane.model;
+
+import java.io.*;
+import java.nio.file.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderTest {
+
+	private FlightRecorder recorder;
+
+	@BeforeEach
+	void initialization() {
+		recorder = new FlightRecorder(4, null);
+	}
+
+	private String dump() throws IOException {
+		StringWriter writer = new StringWriter();
+		recorder.dump(writer);
+		return writer.toString();
+	}
+
+	@Test
+	void capacityRoundedTest() {
+		assertTrue(new FlightRecorder(5, null).capacity() == 8 && recorder.capacity() == 4);
+	}
+
+	@Test
+	void dumpFormatTest() throws IOException {
+		recorder.beginFrame(7);
+		recorder.record(FlightRecorder.EventType.STEP, CellId.of(3, 4), 0);
+		recorder.record(FlightRecorder.EventType.PICKUP, CellId.of(3, 4), PowerUpTypes.TAILCUTTER.ordinal());
+		String[] lines = dump().split("\n");
+		assertTrue(lines.length == 3 && lines[1].equals("7 STEP 3:4 0") && lines[2].equals("7 PICKUP 3:4 1"));
+	}
+
+	@Test
+	void oldestEventsOverwrittenTest() throws IOException {
+		for(int frame = 1; frame <= 6; frame++) {
+			recorder.beginFrame(frame);
+			recorder.record(FlightRecorder.EventType.STEP, CellId.of(frame, 1), 0);
+		}
+		String[] lines = dump().split("\n");
+		assertTrue(recorder.size() == 4 && lines.length == 5 && lines[1].startsWith("3 ") && lines[4].startsWith("6 "));
+	}
+
+	@Test
+	void clearTest() throws IOException {
+		recorder.record(FlightRecorder.EventType.STEP, CellId.of(1, 1), 0);
+		recorder.clear();
+		assertTrue(recorder.size() == 0 && dump().split("\n").length == 1);
+	}
+
+	@Test
+	void dumpOnGameOverTest(@TempDir Path directory) throws IOException {
+		assertNull(recorder.dumpOnGameOver());
+		recorder = new FlightRecorder(4, directory.resolve("flight"));
+		recorder.record(FlightRecorder.EventType.COLLISION, CellId.of(0, 5), FlightRecorder.BORDER_COLLISION);
+		Path file = recorder.dumpOnGameOver();
+		assertTrue(file != null && Files.readString(file).contains("0 COLLISION 0:5 0"));
+	}
+
+	@Test
+	void dumpsOnGameOverNotOverwrittenTest(@TempDir Path directory) throws IOException {
+		recorder = new FlightRecorder(4, directory);
+		Path first = recorder.dumpOnGameOver();
+		Path second = recorder.dumpOnGameOver();
+		try(var files = Files.list(directory)) {
+			assertTrue(first != null && second != null && !first.equals(second) && files.count() == 2);
+		}
+	}
+}
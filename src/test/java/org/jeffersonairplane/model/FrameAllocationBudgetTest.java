@@ -0,0 +1,109 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+
+import org.jeffersonairplane.viewmodel.Direction;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Guards the tick path from gaining allocations.
+ * Game is warmed up until JIT compiles the frame, then every frame is measured
+ * and compared with a budget of its kind: plain step, power up spawn or power up pickup.
+ * Budgets may be changed by system properties snake.alloc.budget.step, .spawn and .pickup.
+ */
+class FrameAllocationBudgetTest {
+
+	private static final int SIDE = 25;
+	private static final int WARM_UP_FRAMES = 300_000;
+	private static final int MEASURED_FRAMES = 100_000;
+
+	/**
+	 * Step allocates nothing.
+	 */
+	private static final long STEP_BUDGET = Long.getLong("snake.alloc.budget.step", 0);
+	/**
+	 * Spawn creates a coordinate and a power up.
+	 */
+	private static final long SPAWN_BUDGET = Long.getLong("snake.alloc.budget.spawn", 96);
+	/**
+	 * Pickup passes power up effect to snake manager.
+	 */
+	private static final long PICKUP_BUDGET = Long.getLong("snake.alloc.budget.pickup", 64);
+
+	private final AllocationMeter meter = new AllocationMeter();
+	private GameModelImpl model;
+
+	@BeforeEach
+	void initialization() {
+		assumeTrue(meter.isSupported(), "Thread allocation counting is not supported");
+		model = new GameModelImpl(
+				new FieldDimension(SIDE, SIDE),
+				new SnakeManagerImpl(new Snake(), 1),
+				new PowerUpManagerImpl(5, 5, 20, new SplittableRandom(1)),
+				new SplittableRandom(2));
+		newGame();
+	}
+
+	private void newGame() {
+		model.resetState();
+		model.getSnakeManager().fillSnake(5, new Coordinate(SIDE / 2, SIDE / 2), Direction.RIGHT, SIDE, SIDE);
+	}
+
+	/**
+	 * Snake heads to the oldest power up.
+	 */
+	private Direction chase() {
+		List<PowerUp> powerUps = model.getPowerUps();
+		Snake snake = model.getSnake();
+		if(powerUps.isEmpty()) return snake.getDirection();
+		Coordinate target = powerUps.get(0).getPoint();
+		int head = snake.headCell();
+		if(target.xCoord() > CellId.x(head)) return Direction.RIGHT;
+		if(target.xCoord() < CellId.x(head)) return Direction.LEFT;
+		return target.yCoord() > CellId.y(head) ? Direction.UP : Direction.DOWN;
+	}
+
+	/**
+	 * Runs frames measuring each one, warm up uses the same code, so measured frames run compiled code.
+	 * @param amount of frames.
+	 * @param check is true if frames should be compared with budgets.
+	 * @return amount of measured plain, spawn and pickup frames.
+	 */
+	private long[] runFrames(int amount, boolean check) {
+		long[] frames = new long[3];
+		for(int i = 0; i < amount; i++) {
+			model.changeSnakeDirection(chase());
+			int powerUps = model.getPowerUps().size();
+			long score = model.getScore();
+
+			long before = meter.allocatedBytes();
+			boolean gameOver = model.oneFrameGameAction();
+			long allocated = meter.allocatedBytes() - before;
+
+			if(gameOver) {
+				newGame();
+				continue;
+			}
+			int pickups = (int) (model.getScore() - score);
+			int spawns = model.getPowerUps().size() - powerUps + pickups;
+			long budget = STEP_BUDGET + spawns * SPAWN_BUDGET + pickups * PICKUP_BUDGET;
+			++frames[pickups > 0 ? 2 : spawns > 0 ? 1 : 0];
+			if(check && allocated > budget) {
+				fail(String.format("Frame %d allocated %d bytes, budget %d (spawns: %d, pickups: %d)",
+						i, allocated, budget, spawns, pickups));
+			}
+		}
+		return frames;
+	}
+
+	@Test
+	void steadyStateFramesWithinBudgetTest() {
+		runFrames(WARM_UP_FRAMES, false);
+		long[] frames = runFrames(MEASURED_FRAMES, true);
+		assertTrue(frames[0] > 0 && frames[1] > 0 && frames[2] > 0,
+				"Every kind of frame should be measured: " + Arrays.toString(frames));
+	}
+}
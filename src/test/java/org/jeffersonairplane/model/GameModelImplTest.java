@@ -1,9 +1,11 @@
 package org.jeffersonairplane.model;
 
+import org.jeffersonairplane.GameConfigSource;
 import org.jeffersonairplane.PropertiesLoader;
 import org.jeffersonairplane.viewmodel.Direction;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.*;
 import org.junit.jupiter.params.provider.*;
 
@@ -19,6 +21,8 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.*;
 import java.util.logging.*;
 import java.util.stream.*;
 import java.util.*;
@@ -40,7 +44,7 @@ class GameModelImplTest {
 	@BeforeEach
 	void initializeModel() {
 		for(int i = 0; i < 5; i++) {
-			snakeManager.getSnake().getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			snakeManager.getSnake().addTail(new Coordinate(5 - i, 5));
 		}
 		model = new GameModelImpl(
 				new FieldDimension(10, 10),
@@ -54,7 +58,7 @@ class GameModelImplTest {
 			model.setDimension(new FieldDimension(10, 10));
 			Snake test = new Snake();
 			for(int i = 0; i < 5; i++) {
-				test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+				test.addTail(new Coordinate(5 - i, 5));
 			}
 			model.initializeSnakeManager();
 			boolean snakesEquals = test.equals(model.getSnakeManager().getSnake());
@@ -81,7 +85,7 @@ class GameModelImplTest {
 	void getSnakeTest() {
 		Snake snake = new Snake();
 		for(int i = 0; i < 5; i++) {
-			snake.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			snake.addTail(new Coordinate(5 - i, 5));
 		}
 		doReturn(snake).when(snakeManager).getSnake();
 		
@@ -117,6 +121,17 @@ class GameModelImplTest {
 		assertEquals(methodAns, answer);
 	}
 	
+	@Test
+	void collisionRecordedTest() throws IOException {
+		model.setFlightRecorder(new FlightRecorder(16, null));
+		doReturn(false).when(snakeManager).snakeCollideWithBorders(anyInt(), anyInt());
+		doReturn(true).when(snakeManager).snakeSelfCollide();
+		model.checkCollisions();
+		StringWriter writer = new StringWriter();
+		model.getFlightRecorder().dump(writer);
+		assertTrue(writer.toString().endsWith("COLLISION 5:5 1\n"));
+	}
+
 	@Test
 	void checkCollisionsExceptionTest() {
 		when(snakeManager.snakeCollideWithBorders(anyInt(), anyInt())).thenThrow(new NullPointerException("OK Test Exception"));
@@ -145,7 +160,7 @@ class GameModelImplTest {
 		Snake snake = snakeManager.getSnake();
 		Snake estimate = new Snake();
 		for(int i = 0; i < 5; i++) {
-			estimate.getSnakeBlocks().addFirst(new Coordinate(6 - i, 5));
+			estimate.addTail(new Coordinate(6 - i, 5));
 		}
 		
 		model.snakeMove();
@@ -158,9 +173,9 @@ class GameModelImplTest {
 		Snake snake = snakeManager.getSnake();
 		Snake estimate = new Snake();
 		for(int i = 0; i < 5; i++) {
-			estimate.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			estimate.addTail(new Coordinate(5 - i, 5));
 		}
-		estimate.getSnakeBlocks().offerFirst(new Coordinate(1, 5));
+		estimate.addTail(new Coordinate(1, 5));
 
 		model.powerUpEffect(new Apple(new Coordinate(5, 5)));
         assertEquals(snake, estimate);
@@ -181,6 +196,24 @@ class GameModelImplTest {
 		assertEquals(model.coordinateIsFree(point), answer);
 	}
 
+	@Test
+	void coordinateIsFreeAfterSnakeMoveTest() {
+		model.snakeMove();
+
+		assertTrue(model.coordinateIsFree(new Coordinate(1, 5)) && !model.coordinateIsFree(new Coordinate(6, 5)));
+	}
+
+	@Test
+	void coordinateIsFreeAfterPowerUpRemovedTest() {
+		powerUpManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(7, 7));
+		var powerUp = powerUpManager.getPowerUpByPoint(new Coordinate(7, 7));
+		assertTrue(powerUp.isPresent());
+
+		powerUpManager.removePowerUp(powerUp.get());
+
+		assertTrue(model.coordinateIsFree(new Coordinate(7, 7)));
+	}
+
 	@Test
 	void getNewFreeCoordinateTest() {
 		powerUpManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(7, 7));
@@ -189,6 +222,38 @@ class GameModelImplTest {
 		assertTrue(model.coordinateIsFree(free));
 	}
 
+	@Test
+	void getNewFreeCoordinateFullFieldTest() {
+		for(int x = 1; x <= 10; x++) {
+			for(int y = 1; y <= 10; y++) {
+				if(y != 5 || x > 5) powerUpManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(x, y));
+			}
+		}
+
+		assertNull(model.getNewFreeCoordinate());
+	}
+
+	private List<Coordinate> playWithSeed(long seed) {
+		SnakeManager manager = new SnakeManagerImpl(new Snake(), 1000);
+		manager.getSnake().addTail(new Coordinate(5, 5));
+		GameModelImpl seeded = new GameModelImpl(new FieldDimension(10, 10), manager,
+				new PowerUpManagerImpl(3, 1, 5), new SplittableRandom(seed));
+		List<Coordinate> points = new ArrayList<>();
+		for(int i = 0; i < 200; i++) {
+			seeded.oneFrameGameAction();
+			for(PowerUp powerUp: seeded.getPowerUps()) {
+				points.add(powerUp.getPoint());
+			}
+		}
+		return points;
+	}
+
+	@Test
+	void sameSeedSameGameTest() {
+		List<Coordinate> points = playWithSeed(42);
+		assertTrue(!points.isEmpty() && points.equals(playWithSeed(42)));
+	}
+
 	@ParameterizedTest
 	@ValueSource(longs = {0, Long.MAX_VALUE, Long.MIN_VALUE, 100})
 	void oneFrameGameActionFramesCounterTest(long frames) {
@@ -200,4 +265,44 @@ class GameModelImplTest {
 
 		assertEquals(expected, model.getFramesCounter());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void reloadedConfigAppliedOnNextFrameTest(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("snake.properties");
+		Files.writeString(file, "snake_move_delay = 5\n");
+		GameConfigSource source = new GameConfigSource(file);
+		GameModelImpl reloadable = new GameModelImpl(source);
+		reloadable.setDimension(new FieldDimension(10, 10));
+		reloadable.initializeSnakeManager();
+		reloadable.initializePowerUpManager();
+		Files.writeString(file, "snake_move_delay = 2\n");
+		source.reload();
+		assertEquals(5, reloadable.getSnakeMovementRhythm());
+		reloadable.oneFrameGameAction();
+		assertEquals(2, reloadable.getSnakeMovementRhythm());
+		reloadable.getSnakeManager().setSnakeMovementRhythm(7);
+		reloadable.resetState();
+		assertEquals(2, reloadable.getSnakeMovementRhythm());
+	}
+
+	@Test
+	void reloadedChancesKeptByGameTest(@TempDir Path directory) throws IOException {
+		PowerUpTypes.APPLE.setCreationWeight(0.25);
+		Path file = directory.resolve("snake.properties");
+		Files.writeString(file, "apple_lower_limit = 0\napple_higher_limit = 100\n");
+		GameConfigSource source = new GameConfigSource(file);
+		GameModelImpl reloadable = new GameModelImpl(source);
+		reloadable.setDimension(new FieldDimension(10, 10));
+		reloadable.initializeSnakeManager();
+		reloadable.initializePowerUpManager();
+		Files.writeString(file, "apple_lower_limit = 0\napple_higher_limit = 0\ntail_cutter_lower_limit = 0\ntail_cutter_higher_limit = 100\n");
+		source.reload();
+		reloadable.oneFrameGameAction();
+		PowerUpManagerImpl manager = (PowerUpManagerImpl) reloadable.getPowerUpManager();
+		int apples = 0;
+		for(int i = 0; i < 1000; i++) {
+			if(manager.getRandomPowerUpType() == PowerUpTypes.APPLE) ++apples;
+		}
+		assertTrue(apples < 100 && PowerUpTypes.APPLE.getCreationWeight() == 0.25);
+	}
+}
@@ -0,0 +1,65 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+	private LatencyHistogram histogram;
+
+	@BeforeEach
+	void initialization() {
+		histogram = new LatencyHistogram();
+	}
+
+	@Test
+	void emptyTest() {
+		assertTrue(histogram.count() == 0 && histogram.max() == 0 && histogram.valueAtPercentile(99) == 0);
+	}
+
+	@Test
+	void smallValuesExactTest() {
+		for(int i = 1; i <= 10; i++) {
+			histogram.record(i);
+		}
+		assertTrue(histogram.valueAtPercentile(50) == 5 && histogram.valueAtPercentile(100) == 10 && histogram.max() == 10);
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {50, 90, 99, 99.9})
+	void percentileErrorTest(double percentile) {
+		Random rnd = new Random(7);
+		long[] values = new long[10_000];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = (long) Math.exp(rnd.nextDouble() * 25);
+			histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+		long estimate = histogram.valueAtPercentile(percentile);
+		assertTrue(estimate >= exact && estimate <= exact + exact / 16 + 1);
+	}
+
+	@Test
+	void hugeValueTest() {
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-5);
+		assertTrue(histogram.valueAtPercentile(100) == Long.MAX_VALUE && histogram.valueAtPercentile(50) == 0);
+	}
+
+	@Test
+	void addAndResetTest() {
+		LatencyHistogram other = new LatencyHistogram();
+		other.record(1000);
+		histogram.record(10);
+		histogram.add(other);
+		assertTrue(histogram.count() == 2 && histogram.max() == 1000);
+		histogram.reset();
+		assertTrue(histogram.count() == 0 && histogram.max() == 0);
+	}
+}
@@ -0,0 +1,142 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class OccupancyGridTest {
+
+	private OccupancyGrid grid;
+
+	@BeforeEach
+	void initialization() {
+		grid = new OccupancyGrid(new FieldDimension(10, 5));
+	}
+
+	@Test
+	void constructorBadDimensionTest() {
+		assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(new FieldDimension(0, 5)));
+		assertThrows(NullPointerException.class, () -> new OccupancyGrid(null));
+	}
+
+	static Stream<Arguments> containsTestSource() {
+		return Stream.of(
+			arguments(new Coordinate(1, 1), true),
+			arguments(new Coordinate(10, 5), true),
+			arguments(new Coordinate(0, 1), false),
+			arguments(new Coordinate(11, 1), false),
+			arguments(new Coordinate(1, 6), false),
+			arguments(null, false)
+		);
+	}
+	@ParameterizedTest
+	@MethodSource("containsTestSource")
+	void containsTest(Coordinate point, boolean answer) {
+		assertEquals(answer, grid.contains(point));
+	}
+
+	@Test
+	void occupyAndReleaseTest() {
+		Coordinate point = new Coordinate(3, 4);
+		grid.occupy(point);
+		assertFalse(grid.isFree(point));
+		grid.release(point);
+		assertTrue(grid.isFree(point));
+	}
+
+	@Test
+	void stackedOccupantsTest() {
+		Coordinate point = new Coordinate(3, 4);
+		grid.occupy(point);
+		grid.occupy(point);
+		grid.release(point);
+		assertFalse(grid.isFree(point));
+		grid.release(point);
+		assertTrue(grid.isFree(point));
+	}
+
+	@Test
+	void releaseFreeBlockTest() {
+		Coordinate point = new Coordinate(3, 4);
+		grid.release(point);
+		grid.occupy(point);
+		assertFalse(grid.isFree(point));
+	}
+
+	@Test
+	void outsideFieldIgnoredTest() {
+		grid.occupy(new Coordinate(0, 0));
+		grid.occupy(new Coordinate(11, 5));
+		for(int x = 1; x <= 10; x++) {
+			for(int y = 1; y <= 5; y++) {
+				assertTrue(grid.isFree(x, y));
+			}
+		}
+	}
+
+	@Test
+	void randomFreeBlockTest() {
+		for(int x = 1; x <= 10; x++) {
+			for(int y = 1; y <= 5; y++) {
+				if(x != 4 || y != 2) grid.occupy(x, y);
+			}
+		}
+		Random rnd = new Random();
+		for(int i = 0; i < 10; i++) {
+			assertEquals(new Coordinate(4, 2), grid.randomFreeBlock(rnd));
+		}
+		assertEquals(1, grid.getFreeBlocksAmount());
+	}
+
+	@Test
+	void randomFreeBlockFullFieldTest() {
+		for(int x = 1; x <= 10; x++) {
+			for(int y = 1; y <= 5; y++) {
+				grid.occupy(x, y);
+			}
+		}
+		assertTrue(grid.isFull());
+		assertNull(grid.randomFreeBlock(new Random()));
+	}
+
+	@Test
+	void randomFreeBlockAfterReleaseTest() {
+		grid.occupy(2, 2);
+		grid.occupy(2, 2);
+		grid.release(2, 2);
+		assertEquals(49, grid.getFreeBlocksAmount());
+		grid.release(2, 2);
+		assertEquals(50, grid.getFreeBlocksAmount());
+		Random rnd = new Random();
+		for(int i = 0; i < 100; i++) {
+			Coordinate point = grid.randomFreeBlock(rnd);
+			assertTrue(grid.contains(point) && grid.isFree(point));
+		}
+	}
+
+	@Test
+	void snakeBlocksTest() {
+		grid.occupySnakeBlock(2, 2);
+		grid.occupySnakeBlock(2, 2);
+		grid.occupy(2, 2);
+		assertEquals(2, grid.snakeBlocksAt(2, 2));
+		grid.releaseSnakeBlock(2, 2);
+		grid.releaseSnakeBlock(2, 2);
+		grid.releaseSnakeBlock(2, 2);
+		assertTrue(grid.snakeBlocksAt(2, 2) == 0 && !grid.isFree(2, 2));
+	}
+
+	@Test
+	void clearTest() {
+		grid.occupy(1, 1);
+		grid.occupy(10, 5);
+		grid.clear();
+		assertTrue(grid.isFree(1, 1) && grid.isFree(10, 5));
+	}
+}
@@ -0,0 +1,83 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PowerUpIndexTest {
+
+	private PowerUpIndex index;
+
+	@BeforeEach
+	void initialization() {
+		index = new PowerUpIndex();
+	}
+
+	@Test
+	void addAndGetTest() {
+		PowerUp apple = new Apple(new Coordinate(3, 4));
+		index.add(apple);
+		assertTrue(index.get(3, 4) == apple && index.get(4, 3) == null && index.size() == 1);
+	}
+
+	@Test
+	void sameBlockTest() {
+		PowerUp first = new Apple(new Coordinate(3, 4));
+		PowerUp second = new TailCutter(new Coordinate(3, 4));
+		index.add(first);
+		index.add(second);
+		assertTrue(index.remove(first));
+		assertSame(second, index.get(3, 4));
+		assertTrue(index.remove(second));
+		assertNull(index.get(3, 4));
+	}
+
+	@Test
+	void removeAbsentTest() {
+		index.add(new Apple(new Coordinate(3, 4)));
+		assertFalse(index.remove(new Apple(new Coordinate(3, 4))));
+		assertFalse(index.remove(null));
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	void manyPowerUpsTest() {
+		List<PowerUp> powerUps = new ArrayList<>();
+		for(int x = 1; x <= 50; x++) {
+			for(int y = 1; y <= 50; y++) {
+				PowerUp apple = new Apple(new Coordinate(x, y));
+				powerUps.add(apple);
+				index.add(apple);
+			}
+		}
+		for(int i = 0; i < powerUps.size(); i += 2) {
+			assertTrue(index.remove(powerUps.get(i)));
+		}
+		for(int i = 0; i < powerUps.size(); i++) {
+			Coordinate point = powerUps.get(i).getPoint();
+			PowerUp expected = i % 2 == 0 ? null : powerUps.get(i);
+			assertSame(expected, index.get(point.xCoord(), point.yCoord()));
+		}
+		assertEquals(1250, index.size());
+	}
+
+	@Test
+	void clearTest() {
+		index.add(new Apple(new Coordinate(3, 4)));
+		index.clear();
+		assertTrue(index.get(3, 4) == null && index.size() == 0);
+	}
+
+	@Test
+	void positionTest() {
+		PowerUp first = new Apple(new Coordinate(3, 4));
+		PowerUp second = new TailCutter(new Coordinate(3, 4));
+		index.add(first);
+		index.add(second, 7);
+		assertTrue(index.positionOf(first) == 0 && index.positionOf(second) == 7);
+		assertTrue(index.setPosition(second, 0) && index.removeAndGetPosition(first) == 0);
+		assertTrue(index.positionOf(second) == 0 && index.positionOf(first) == -1 && !index.setPosition(first, 1));
+	}
+}
@@ -30,7 +30,7 @@ class PowerUpManagerImplTest {
 		puManager = new PowerUpManagerImpl(23, 24, 25);
 		assertTrue(
 			puManager.getPowerUps().isEmpty() && 
-			puManager.getPowerUpCreationCountdowns().isEmpty() &&
+			puManager.getScheduledPowerUpsNumber() == 0 &&
 			puManager.getPowerUpNumberLimit() == 23 &&
 			puManager.getMinPowerUpCreationDelay() == 24 &&
 			puManager.getMaxPowerUpCreationDelay() == 25);
@@ -41,7 +41,7 @@ class PowerUpManagerImplTest {
 		puManager = new PowerUpManagerImpl(-100, -100, -100);
 		assertTrue(
 			puManager.getPowerUps().isEmpty() && 
-			puManager.getPowerUpCreationCountdowns().isEmpty() &&
+			puManager.getScheduledPowerUpsNumber() == 0 &&
 			puManager.getPowerUpNumberLimit() == 0 &&
 			puManager.getMinPowerUpCreationDelay() == 0 &&
 			puManager.getMaxPowerUpCreationDelay() == 0);
@@ -53,17 +53,43 @@ class PowerUpManagerImplTest {
         assertInstanceOf(PowerUpTypes.class, obj);
 	}
 	
+	@Test
+	void updatePowerUpTypeWeightsTest() {
+		PowerUpTypes.APPLE.setCreationWeight(0);
+		PowerUpTypes.TAILCUTTER.setCreationWeight(0.5);
+		puManager.updatePowerUpTypeWeights();
+		for(int i = 0; i < 100; i++) {
+			assertEquals(PowerUpTypes.TAILCUTTER, puManager.getRandomPowerUpType());
+		}
+		setPowerUpCreationChances();
+	}
+	
 	@Test
 	void runNewPowerUpCountdownTest() {
 		puManager.runNewPowerUpCountdown();
 		
-		for(var entry: puManager.getPowerUpCreationCountdowns().entrySet())
-		{
-			for(Integer countdown: entry.getValue()) {
-				assertTrue(countdown >= 35 && countdown <= 105);
-			}
+		int countdown = puManager.framesUntilNextPowerUp();
+		assertTrue(countdown >= 35 && countdown <= 105);
+	}
+	
+	@Test
+	void runNewPowerUpCountdownSameSeedTest() {
+		PowerUpManagerImpl first = new PowerUpManagerImpl(50, 0, 100, new SplittableRandom(7));
+		PowerUpManagerImpl second = new PowerUpManagerImpl(50, 0, 100, new SplittableRandom(7));
+		for(int i = 0; i < 50; i++) {
+			first.runNewPowerUpCountdown();
+			second.runNewPowerUpCountdown();
+			assertEquals(first.framesUntilNextPowerUp(), second.framesUntilNextPowerUp());
+			assertEquals(first.getRandomPowerUpType(), second.getRandomPowerUpType());
 		}
 	}
+
+	@Test
+	void runNewPowerUpCountdownFixedDelayTest() {
+		puManager = new PowerUpManagerImpl(3, 10, 10);
+		puManager.runNewPowerUpCountdown();
+		assertEquals(10, puManager.framesUntilNextPowerUp());
+	}
 	
 	@Test
 	void runNewPowerUpCountdownFewRunsTest() {
@@ -71,12 +97,7 @@ class PowerUpManagerImplTest {
 		puManager.runNewPowerUpCountdown();
 		puManager.runNewPowerUpCountdown();
 
-		int size = 0;
-		for(var entry: puManager.getPowerUpCreationCountdowns().entrySet()) {
-			size += entry.getValue().size();
-		}
-
-        assertEquals(3, size);
+        assertEquals(3, puManager.getScheduledPowerUpsNumber());
 	}
 	
 	@Test
@@ -86,11 +107,7 @@ class PowerUpManagerImplTest {
 		puManager.runNewPowerUpCountdown();
 		
 		puManager.runNewPowerUpCountdown();
-		int size = 0;
-		for(var entry: puManager.getPowerUpCreationCountdowns().entrySet()) {
-			size += entry.getValue().size();
-		}
-        assertEquals(3, size);
+        assertEquals(3, puManager.getScheduledPowerUpsNumber());
 	}
 	
 	@Test
@@ -99,24 +116,35 @@ class PowerUpManagerImplTest {
 		puManager.runNewPowerUpCountdown();
 		puManager.runNewPowerUpCountdown();
 		
-		List<Integer> expectedCountdowns = new ArrayList<>();
-		
-		for(var entry: puManager.getPowerUpCreationCountdowns().entrySet())
-		{
-			for(Integer countdown: entry.getValue()) {
-				expectedCountdowns.add(countdown - 1);
-			}
-		}
+		int expectedCountdown = puManager.framesUntilNextPowerUp() - 1;
 		
 		puManager.countdownWaitingPowerUps();
 		
-		List<Integer> actualCountdowns = new ArrayList<>();
-		
-		for(var entry: puManager.getPowerUpCreationCountdowns().entrySet())
-		{
-            actualCountdowns.addAll(entry.getValue());
+		assertTrue(expectedCountdown == puManager.framesUntilNextPowerUp() && puManager.getScheduledPowerUpsNumber() == 3);
+	}
+
+	@Test
+	void schedulePowerUpDelayTest() {
+		puManager.schedulePowerUp(PowerUpTypes.TAILCUTTER, 3);
+		for(int i = 0; i < 2; i++) {
+			puManager.countdownWaitingPowerUps();
+			puManager.createPowerUps(() -> new Coordinate(1, 1));
 		}
-		assertEquals(expectedCountdowns, actualCountdowns);
+		assertTrue(puManager.getPowerUps().isEmpty() && puManager.framesUntilNextPowerUp() == 1);
+		puManager.countdownWaitingPowerUps();
+		puManager.createPowerUps(() -> new Coordinate(1, 1));
+		assertTrue(puManager.getPowerUps().get(0) instanceof TailCutter && puManager.framesUntilNextPowerUp() == -1);
+	}
+
+	@Test
+	void schedulePowerUpZeroDelayAfterCreationTest() {
+		puManager.createPowerUps(() -> new Coordinate(1, 1));
+		puManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
+		puManager.createPowerUps(() -> new Coordinate(1, 1));
+		assertTrue(puManager.getPowerUps().isEmpty());
+		puManager.countdownWaitingPowerUps();
+		puManager.createPowerUps(() -> new Coordinate(1, 1));
+		assertEquals(1, puManager.getPowerUps().size());
 	}
 	
 	static Stream<Arguments> createPowerUpTestSource() {
@@ -150,18 +178,42 @@ class PowerUpManagerImplTest {
         assertFalse(pu.isPresent());
 	}
 	
+	@Test
+	void powerUpAtTest() {
+		puManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(5, 5));
+		puManager.createPowerUp(PowerUpTypes.TAILCUTTER, new Coordinate(6, 5));
+		PowerUp pu = puManager.powerUpAt(6, 5);
+		assertTrue(pu instanceof TailCutter && puManager.powerUpAt(7, 5) == null);
+		puManager.removePowerUp(pu);
+		assertNull(puManager.powerUpAt(6, 5));
+	}
+
+	@Test
+	void getPowerUpsReadOnlyTest() {
+		assertThrows(UnsupportedOperationException.class, () -> puManager.getPowerUps().add(new Apple(new Coordinate(1, 1))));
+	}
+
 	@Test
 	void createPowerUpsTest() {
-		var countdowns = puManager.getPowerUpCreationCountdowns();
-		countdowns.put(PowerUpTypes.APPLE, new ArrayList<Integer>());
-		countdowns.get(PowerUpTypes.APPLE).add(0);
-		countdowns.get(PowerUpTypes.APPLE).add(0);
+		puManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
+		puManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
 		
 		puManager.createPowerUps(() -> new Coordinate(0, 0));
 		
-		assertTrue(countdowns.get(PowerUpTypes.APPLE).isEmpty() && puManager.getPowerUps().size() == 2);
+		assertTrue(puManager.getScheduledPowerUpsNumber() == 0 && puManager.getPowerUps().size() == 2);
 	}
 	
+	@Test
+	void createPowerUpsNoFreePointTest() {
+		puManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
+		puManager.setWaitingAndExistingPowerUpsNumber(1);
+
+		puManager.createPowerUps(() -> null);
+
+		assertTrue(puManager.getScheduledPowerUpsNumber() == 0 && puManager.getPowerUps().isEmpty()
+				&& puManager.getWaitingAndExistingPowerUpsNumber() == 0);
+	}
+
 	@Test
 	void removePowerUpTest() {
 		puManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(0, 0));
@@ -171,6 +223,22 @@ class PowerUpManagerImplTest {
 		boolean removed = puManager.removePowerUp(pu.get());
 		assertTrue(puManager.getPowerUps().size() == 1 && removed);
 	}
+
+	@Test
+	void removePowerUpKeepsPositionsTest() {
+		for(int x = 1; x <= 5; x++) {
+			puManager.createPowerUp(PowerUpTypes.APPLE, new Coordinate(x, 1));
+		}
+		List<PowerUp> powerUps = puManager.getPowerUps();
+		PowerUp removed = powerUps.get(1);
+		PowerUp last = powerUps.get(4);
+		assertTrue(puManager.removePowerUp(removed) && powerUps.get(1) == last && powerUps.size() == 4);
+		assertTrue(puManager.removePowerUp(last) && puManager.removePowerUp(powerUps.get(0)) && !puManager.removePowerUp(removed));
+		for(PowerUp powerUp: List.copyOf(powerUps)) {
+			assertTrue(puManager.removePowerUp(powerUp));
+		}
+		assertTrue(powerUps.isEmpty() && puManager.powerUpAt(1, 1) == null);
+	}
 	
 	@Test
 	void waitingAndExistsPowerUpsNumberTest1() {
@@ -184,7 +252,7 @@ class PowerUpManagerImplTest {
 	void waitingAndExistsPowerUpsNumberTest2() {
 		puManager.runNewPowerUpCountdown();
 		puManager.runNewPowerUpCountdown();
-		puManager.getPowerUpCreationCountdowns().get(PowerUpTypes.APPLE).set(0, 0);
+		puManager.schedulePowerUp(PowerUpTypes.APPLE, 0);
 		puManager.createPowerUps(() -> new Coordinate(0, 0));
 		
 		assertEquals(2, puManager.getWaitingAndExistingPowerUpsNumber());
@@ -207,7 +275,7 @@ class PowerUpManagerImplTest {
 		
 		puManager.resetState();
 		
-		assertTrue(puManager.getPowerUpCreationCountdowns().isEmpty()
+		assertTrue(puManager.getScheduledPowerUpsNumber() == 0
 				&& puManager.getPowerUps().isEmpty()
 				&& puManager.getWaitingAndExistingPowerUpsNumber() == 0);
 	}
@@ -21,6 +21,20 @@ class PowerUpTypesTest {
 		assertTrue(min == type.getMinChance() && max == type.getMaxChance());
 	}
 	
+	@Test
+	public void setCreationChanceWeightTest() {
+		PowerUpTypes.APPLE.setCreationChance(20, 100);
+		assertEquals(81, PowerUpTypes.APPLE.getCreationWeight());
+	}
+
+	@Test
+	public void setCreationWeightTest() {
+		PowerUpTypes.APPLE.setCreationWeight(0.25);
+		PowerUpTypes.APPLE.setCreationWeight(-1);
+		PowerUpTypes.APPLE.setCreationWeight(Double.NaN);
+		assertEquals(0.25, PowerUpTypes.APPLE.getCreationWeight());
+	}
+
 	@Test
 	public void setCreationChanceBadValueTest() {
 		PowerUpTypes.APPLE.setCreationChance(0, 10);
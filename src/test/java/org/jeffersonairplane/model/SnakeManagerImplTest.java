@@ -31,8 +31,8 @@ class SnakeManagerImplTest {
 		Snake estimate = new Snake();
 		Snake snakeArg = new Snake();
 		for(int i = 5; i > 0; i--) {
-			estimate.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
-			snakeArg.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
+			estimate.addTail(new Coordinate(i, 1));
+			snakeArg.addTail(new Coordinate(i, 1));
 		}
 		snakeManager = new SnakeManagerImpl(snakeArg, 7);
 		assertTrue(snakeManager.getSnake().equals(estimate) && snakeManager.getSnakeMovementRhythm() == 7);
@@ -41,12 +41,12 @@ class SnakeManagerImplTest {
 	static Stream<Arguments> fillSnakeTestSource() {
 		Snake normalEstimate = new Snake();
 		for(int i = 0; i < 4; i++) {
-			normalEstimate.getSnakeBlocks().offerFirst(new Coordinate(5 + i, 5));
+			normalEstimate.addTail(new Coordinate(5 + i, 5));
 			normalEstimate.setDirection(Direction.LEFT);
 		}
 		Snake tooLongEstimate = new Snake();
 		for(int i = 0; i < 6; i++) {
-			tooLongEstimate.getSnakeBlocks().offerFirst(new Coordinate(5 + i, 5));
+			tooLongEstimate.addTail(new Coordinate(5 + i, 5));
 			tooLongEstimate.setDirection(Direction.LEFT);
 		}
 		
@@ -76,7 +76,7 @@ class SnakeManagerImplTest {
 		snakeManager.fillSnake(5, new Coordinate(5, 5), Direction.RIGHT, 10, 10);
 		Snake estimate = new Snake();
 		for(int i = 0; i < 5; i++) {
-			estimate.getSnakeBlocks().offerFirst(new Coordinate(6 - i, 5));
+			estimate.addTail(new Coordinate(6 - i, 5));
 		}
 		
 		snakeManager.snakeStep();
@@ -110,10 +110,10 @@ class SnakeManagerImplTest {
 		Snake estimate = new Snake();
 		Snake test = snakeManager.getSnake();
 		for(int i = 0; i < 5; i++) {
-			estimate.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
-			test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			estimate.addTail(new Coordinate(5 - i, 5));
+			test.addTail(new Coordinate(5 - i, 5));
 		}
-		estimate.getSnakeBlocks().offerFirst(new Coordinate(1, 5));
+		estimate.addTail(new Coordinate(1, 5));
 		
 		powerUp.accept(test);
 		
@@ -131,7 +131,7 @@ class SnakeManagerImplTest {
 	void snakeCollideWithBordersTest(int fieldWidth, int fieldHeight, boolean answer) {
 		Snake test = snakeManager.getSnake();
 		for(int i = 0; i < 5; i++) {
-			test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			test.addTail(new Coordinate(5 - i, 5));
 		}
 		
 		assertEquals(snakeManager.snakeCollideWithBorders(fieldWidth, fieldHeight), answer);
@@ -141,7 +141,7 @@ class SnakeManagerImplTest {
 	void snakeSelfCollideFalseTest() {
 		Snake test = snakeManager.getSnake();
 		for(int i = 0; i < 6; i++) {
-			test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			test.addTail(new Coordinate(5 - i, 5));
 		}
 		
 		assertFalse(snakeManager.snakeSelfCollide());
@@ -150,15 +150,40 @@ class SnakeManagerImplTest {
 	@Test
 	void snakeSelfCollideTrueTest() {
 		Snake test = snakeManager.getSnake();
-		test.getSnakeBlocks().offerFirst(new Coordinate(5, 5));
-		test.getSnakeBlocks().offerFirst(new Coordinate(4, 5));
-		test.getSnakeBlocks().offerFirst(new Coordinate(4, 4));
-		test.getSnakeBlocks().offerFirst(new Coordinate(5, 4));
-		test.getSnakeBlocks().offerFirst(new Coordinate(5, 5));
+		test.addTail(new Coordinate(5, 5));
+		test.addTail(new Coordinate(4, 5));
+		test.addTail(new Coordinate(4, 4));
+		test.addTail(new Coordinate(5, 4));
+		test.addTail(new Coordinate(5, 5));
 		
 		assertTrue(snakeManager.snakeSelfCollide());
 	}
 	
+	@Test
+	void snakeSelfCollideOnFieldFalseTest() {
+		Snake test = snakeManager.getSnake();
+		test.setOccupancyGrid(new OccupancyGrid(new FieldDimension(10, 10)));
+		snakeManager.fillSnake(6, new Coordinate(6, 5), Direction.RIGHT, 10, 10);
+		snakeManager.changeSnakeState(new Apple(new Coordinate(0, 0))::influence);
+
+		assertFalse(snakeManager.snakeSelfCollide());
+	}
+
+	@Test
+	void snakeSelfCollideOnFieldTrueTest() {
+		Snake test = snakeManager.getSnake();
+		test.setOccupancyGrid(new OccupancyGrid(new FieldDimension(10, 10)));
+		snakeManager.fillSnake(5, new Coordinate(5, 5), Direction.RIGHT, 10, 10);
+		test.setDirection(Direction.UP);
+		snakeManager.snakeStep();
+		test.setDirection(Direction.LEFT);
+		snakeManager.snakeStep();
+		test.setDirection(Direction.DOWN);
+		snakeManager.snakeStep();
+
+		assertTrue(snakeManager.snakeSelfCollide());
+	}
+
 	static Stream<Arguments> snakeHeadAtTestSource() {
 		return Stream.of(
 			arguments(new Coordinate(5, 5), true),
@@ -172,7 +197,7 @@ class SnakeManagerImplTest {
 	void snakeHeadAtTest(Coordinate coordinate, boolean answer) {
 		Snake test = snakeManager.getSnake();
 		for(int i = 0; i < 5; i++) {
-			test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			test.addTail(new Coordinate(5 - i, 5));
 		}
 		
 		assertEquals(snakeManager.snakeHeadAt(coordinate), answer);
@@ -182,7 +207,7 @@ class SnakeManagerImplTest {
 	void resetStateTest() {
 		Snake test = snakeManager.getSnake();
 		for(int i = 0; i < 5; i++) {
-			test.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			test.addTail(new Coordinate(5 - i, 5));
 		}
 		test.setDirection(Direction.UP);
 		snakeManager.setSnakeMovementRhythm(1000);
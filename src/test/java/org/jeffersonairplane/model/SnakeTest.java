@@ -37,25 +37,82 @@ class SnakeTest {
 	@Test
 	void getSnakeBlocksTest() {
 		Deque<Coordinate> collectionToCompare = new LinkedList<>();
-		Deque<Coordinate> snakeBlocks = snake.getSnakeBlocks();
 		for(int i = 0; i < 10; i++) {
 			Coordinate coord = new Coordinate(i, i + 1);
 			collectionToCompare.offerFirst(coord);
-			snakeBlocks.offerFirst(coord);
+			snake.addTail(coord);
 		}
         assertEquals(snake.getSnakeBlocks(), collectionToCompare);
 	}
 
+	@Test
+	void getSnakeBlocksReadOnlyTest() {
+		snake.addTail(new Coordinate(1, 1));
+		assertThrows(UnsupportedOperationException.class, () -> snake.getSnakeBlocks().add(new Coordinate(2, 1)));
+	}
+
+	@Test
+	void headAndTailTest() {
+		snake.addTail(new Coordinate(2, 1));
+		snake.addTail(new Coordinate(1, 1));
+		snake.addHead(new Coordinate(3, 1));
+		assertTrue(snake.getHead().equals(new Coordinate(3, 1)) && snake.getTail().equals(new Coordinate(1, 1))
+				&& snake.size() == 3);
+	}
+
+	@Test
+	void emptySnakeHeadAndTailTest() {
+		assertNull(snake.getHead());
+		assertNull(snake.getTail());
+		assertThrows(NoSuchElementException.class, () -> snake.headCell());
+		assertThrows(NoSuchElementException.class, () -> snake.removeTail());
+	}
+
+	@Test
+	void ringBufferWrapAndGrowTest() {
+		Deque<Coordinate> collectionToCompare = new LinkedList<>();
+		for(int i = 0; i < 10; i++) {
+			Coordinate coord = new Coordinate(i, -i);
+			collectionToCompare.offerLast(coord);
+			snake.addHead(coord);
+		}
+		for(int i = 10; i < 100; i++) {
+			Coordinate coord = new Coordinate(i, -i);
+			collectionToCompare.offerLast(coord);
+			collectionToCompare.pollFirst();
+			snake.addHead(coord);
+			snake.removeTail();
+			if(i % 3 == 0) {
+				Coordinate tail = collectionToCompare.peekFirst();
+				collectionToCompare.offerFirst(tail);
+				snake.addTail(snake.tailCell());
+			}
+		}
+		assertEquals(collectionToCompare, snake.getSnakeBlocks());
+	}
+
+	@Test
+	void occupancyGridUpdateTest() {
+		OccupancyGrid grid = new OccupancyGrid(new FieldDimension(5, 5));
+		snake.setOccupancyGrid(grid);
+		snake.addTail(new Coordinate(2, 2));
+		snake.addTail(new Coordinate(1, 2));
+		snake.removeTail();
+		assertTrue(grid.isFree(1, 2) && !grid.isFree(2, 2));
+		snake.clear();
+		assertTrue(grid.isFree(2, 2) && snake.isEmpty());
+	}
+
 	static Stream<Arguments> equalsTestSource() {
 		Snake badDirectionSnake = new Snake();
 		badDirectionSnake.setDirection(Direction.LEFT);
 
 		Snake otherBlocksSnake = new Snake();
-		otherBlocksSnake.getSnakeBlocks().offerFirst(new Coordinate(100, 100));
+		otherBlocksSnake.addTail(new Coordinate(100, 100));
 
 		Snake estimateEquals = new Snake();
 		for(int i = 0; i < 5; i++) {
-			estimateEquals.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			estimateEquals.addTail(new Coordinate(5 - i, 5));
 		}
 		return Stream.of(
 				arguments(estimateEquals, true),
@@ -67,8 +124,22 @@ class SnakeTest {
 	@MethodSource("equalsTestSource")
 	void equalsTest(Snake other, boolean ans) {
 		for(int i = 0; i < 5; i++) {
-			snake.getSnakeBlocks().offerFirst(new Coordinate(5 - i, 5));
+			snake.addTail(new Coordinate(5 - i, 5));
 		}
 		assertEquals(snake.equals(other), ans);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void hashCodeMatchesEqualsTest() {
+		Snake other = new Snake();
+		for(int i = 0; i < 5; i++) {
+			snake.addTail(new Coordinate(5 - i, 5));
+			other.addHead(new Coordinate(i + 1, 5));
+		}
+		snake.addHead(new Coordinate(6, 5));
+		snake.removeTail();
+		other.addHead(new Coordinate(6, 5));
+		other.removeTail();
+		assertTrue(snake.equals(other) && snake.hashCode() == other.hashCode());
+	}
+}
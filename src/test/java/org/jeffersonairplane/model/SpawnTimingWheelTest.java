@@ -0,0 +1,87 @@
+package org.jeffersonairplane.model;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpawnTimingWheelTest {
+
+	private SpawnTimingWheel wheel;
+
+	@BeforeEach
+	void initialization() {
+		wheel = new SpawnTimingWheel(8);
+	}
+
+	@Test
+	void spanRoundedTest() {
+		assertTrue(wheel.span() == 8 && new SpawnTimingWheel(9).span() == 16 && new SpawnTimingWheel(0).span() == 2);
+	}
+
+	@Test
+	void pollOnDueFrameTest() {
+		wheel.schedule(1, 3);
+		assertEquals(-1, wheel.poll(2));
+		assertEquals(1, wheel.poll(3));
+		assertTrue(wheel.poll(3) == -1 && wheel.size() == 0);
+	}
+
+	@Test
+	void sameFrameOrderTest() {
+		wheel.schedule(1, 2);
+		wheel.schedule(2, 2);
+		wheel.schedule(3, 2);
+		assertTrue(wheel.poll(2) == 1 && wheel.poll(2) == 2 && wheel.poll(2) == 3);
+	}
+
+	@Test
+	void firedFrameMovedForwardTest() {
+		wheel.poll(5);
+		wheel.schedule(1, 0);
+		assertEquals(-1, wheel.poll(5));
+		assertEquals(6, wheel.nextDueFrame());
+		assertEquals(1, wheel.poll(6));
+	}
+
+	@Test
+	void growBeyondSpanTest() {
+		wheel.schedule(1, 5);
+		wheel.schedule(2, 100);
+		wheel.schedule(3, 5);
+		assertTrue(wheel.span() >= 101 && wheel.nextDueFrame() == 5);
+		assertTrue(wheel.poll(99) == 1 && wheel.poll(99) == 3 && wheel.poll(99) == -1);
+		assertEquals(2, wheel.poll(100));
+	}
+
+	@Test
+	void manySpawnsTest() {
+		Random rnd = new Random();
+		int[] dueCounts = new int[50];
+		for(int i = 0; i < 5000; i++) {
+			int frame = rnd.nextInt(50);
+			++dueCounts[frame];
+			wheel.schedule(frame, frame);
+		}
+		for(int frame = 0; frame < 50; frame++) {
+			int fired = 0;
+			for(int payload = wheel.poll(frame); payload >= 0; payload = wheel.poll(frame)) {
+				assertEquals(frame, payload);
+				++fired;
+			}
+			assertEquals(dueCounts[frame], fired);
+		}
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void clearTest() {
+		wheel.schedule(1, 3);
+		wheel.poll(2);
+		wheel.clear();
+		assertTrue(wheel.size() == 0 && wheel.nextDueFrame() == -1);
+		wheel.schedule(2, 0);
+		assertEquals(2, wheel.poll(0));
+	}
+}
@@ -18,11 +18,11 @@ public class TailCutterTest {
     void influenceTest() {
         Snake estimate = new Snake();
         for(int i = 10; i > 0; i--) {
-            estimate.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
-            snake.getSnakeBlocks().offerFirst(new Coordinate(i, 1));
+            estimate.addTail(new Coordinate(i, 1));
+            snake.addTail(new Coordinate(i, 1));
         }
-        estimate.getSnakeBlocks().pollFirst();
-        estimate.getSnakeBlocks().pollFirst();
+        estimate.removeTail();
+        estimate.removeTail();
 
         tailCutter.influence(snake);
 
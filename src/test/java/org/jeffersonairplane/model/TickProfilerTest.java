@@ -0,0 +1,52 @@
+package org.jeffersonairplane.model;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickProfilerTest {
+
+	@Test
+	void disabledTest() {
+		TickProfiler profiler = new TickProfiler(false, 0);
+		long mark = profiler.start();
+		assertEquals(0, profiler.lap(TickProfiler.Phase.MOVE, mark));
+		assertTrue(profiler.snapshot().stream().allMatch(stats -> stats.count() == 0));
+	}
+
+	@Test
+	void lapsRecordedTest() {
+		TickProfiler profiler = new TickProfiler(true, 0);
+		for(int i = 0; i < 3; i++) {
+			long mark = profiler.start();
+			mark = profiler.lap(TickProfiler.Phase.COUNTDOWN, mark);
+			profiler.lap(TickProfiler.Phase.CREATE, mark);
+			profiler.frameDone();
+		}
+		var stats = profiler.snapshot();
+		assertTrue(stats.size() == TickProfiler.Phase.values().length
+				&& stats.get(TickProfiler.Phase.COUNTDOWN.ordinal()).count() == 3
+				&& stats.get(TickProfiler.Phase.CREATE.ordinal()).count() == 3
+				&& stats.get(TickProfiler.Phase.MOVE.ordinal()).count() == 0);
+		assertTrue(profiler.summary().contains("PICKUP_AND_COLLISION"));
+		profiler.reset();
+		assertEquals(0, profiler.snapshot().get(0).count());
+	}
+
+	@Test
+	void modelPhasesTimedTest() {
+		GameModelImpl model = new GameModelImpl();
+		model.setDimension(new FieldDimension(20, 20));
+		model.initializeSnakeManager();
+		model.initializePowerUpManager();
+		model.setTickProfiler(new TickProfiler(true, 0));
+		model.getSnakeManager().setSnakeMovementRhythm(2);
+		for(int i = 0; i < 4; i++) {
+			model.oneFrameGameAction();
+		}
+		var stats = model.getTickProfiler().snapshot();
+		assertTrue(stats.get(TickProfiler.Phase.COUNTDOWN.ordinal()).count() == 4
+				&& stats.get(TickProfiler.Phase.MOVE.ordinal()).count() == 2
+				&& stats.get(TickProfiler.Phase.PICKUP_AND_COLLISION.ordinal()).count() == 2);
+	}
+}
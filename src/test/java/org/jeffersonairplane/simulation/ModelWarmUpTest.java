@@ -0,0 +1,42 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.model.FlightRecorder;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelWarmUpTest {
+
+	@Test
+	void runSpendsFramesTest() {
+		assertEquals(20_000, ModelWarmUp.run(GameConfig.getDefault(), 20_000, 1));
+	}
+
+	@Test
+	void startCompletesTest() throws Exception {
+		long played = ModelWarmUp.start(GameConfig.getDefault(), 20_000).get(30, TimeUnit.SECONDS);
+		assertEquals(20_000, played);
+	}
+
+	@Test
+	void noFlightRecordsTest(@TempDir Path directory) throws IOException {
+		String previous = System.getProperty(FlightRecorder.DUMP_DIRECTORY_PROPERTY);
+		System.setProperty(FlightRecorder.DUMP_DIRECTORY_PROPERTY, directory.toString());
+		try {
+			ModelWarmUp.run(GameConfig.getDefault(), 20_000, 2);
+		}
+		finally {
+			if(previous == null) System.clearProperty(FlightRecorder.DUMP_DIRECTORY_PROPERTY);
+			else System.setProperty(FlightRecorder.DUMP_DIRECTORY_PROPERTY, previous);
+		}
+		try(var files = Files.list(directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+}
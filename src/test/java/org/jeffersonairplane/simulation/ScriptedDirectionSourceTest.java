@@ -0,0 +1,40 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.viewmodel.Direction;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.*;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptedDirectionSourceTest {
+
+	@Test
+	void nextDirectionTest() {
+		ScriptedDirectionSource source = new ScriptedDirectionSource("2:up, 5:LEFT");
+		assertNull(source.nextDirection(null, 1));
+		assertEquals(Direction.UP, source.nextDirection(null, 2));
+		assertNull(source.nextDirection(null, 3));
+		assertEquals(Direction.LEFT, source.nextDirection(null, 5));
+		assertNull(source.nextDirection(null, 6));
+	}
+
+	@Test
+	void passedStepSkippedTest() {
+		ScriptedDirectionSource source = new ScriptedDirectionSource("2:UP,5:LEFT");
+		assertEquals(Direction.LEFT, source.nextDirection(null, 5));
+		source.rewind();
+		assertEquals(Direction.UP, source.nextDirection(null, 2));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"UP", "1:NORTH", "x:UP", "5:UP,3:LEFT"})
+	void badScriptTest(String script) {
+		assertThrows(IllegalArgumentException.class, () -> new ScriptedDirectionSource(script));
+	}
+
+	@Test
+	void emptyScriptTest() {
+		assertNull(new ScriptedDirectionSource("").nextDirection(null, 1));
+	}
+}
@@ -0,0 +1,50 @@
+package org.jeffersonairplane.simulation;
+
+import org.jeffersonairplane.model.*;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+	private GameModelImpl createModel(int snakeMovementRhythm) {
+		SnakeManager snakeManager = new SnakeManagerImpl(new Snake(), snakeMovementRhythm);
+		for(int i = 0; i < 5; i++) {
+			snakeManager.getSnake().addTail(new Coordinate(5 - i, 5));
+		}
+		return new GameModelImpl(new FieldDimension(10, 10), snakeManager, new PowerUpManagerImpl(0, 0, 1));
+	}
+
+	@Test
+	void nullModelTest() {
+		assertThrows(NullPointerException.class, () -> new SimulationEngine(null, DirectionSource.NONE));
+	}
+
+	@Test
+	void runFramesUntilCollisionTest() {
+		SimulationEngine engine = new SimulationEngine(createModel(1), null);
+		SimulationResult result = engine.runFrames(100);
+		assertTrue(result.gameOver() && result.frames() == 6);
+	}
+
+	@Test
+	void runFramesBudgetTest() {
+		SimulationEngine engine = new SimulationEngine(createModel(1), DirectionSource.NONE);
+		SimulationResult result = engine.runFrames(3);
+		assertTrue(!result.gameOver() && result.frames() == 3);
+	}
+
+	@Test
+	void runFramesScriptedTest() {
+		SimulationEngine engine = new SimulationEngine(createModel(1), new ScriptedDirectionSource("1:UP,3:LEFT"));
+		SimulationResult result = engine.runFrames(100);
+		assertTrue(result.gameOver() && result.frames() == 7);
+	}
+
+	@Test
+	void runForTest() {
+		SimulationEngine engine = new SimulationEngine(createModel(Integer.MAX_VALUE), DirectionSource.NONE);
+		SimulationResult result = engine.runFor(1_000_000);
+		assertTrue(!result.gameOver() && result.frames() > 0 && result.elapsedNanos() >= 1_000_000);
+	}
+}
@@ -0,0 +1,67 @@
+package org.jeffersonairplane.view;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameSnapshotTest {
+
+	@Test
+	void growTest() {
+		FrameSnapshot frame = new FrameSnapshot();
+		for(int i = 0; i < 1000; i++) {
+			frame.addSnakeBlock(i, -i);
+			frame.addPowerUp(PowerUpTypesView.APPLE, -i, i);
+		}
+		assertTrue(frame.getSnakeLength() == 1000 && frame.snakeX(999) == 999 && frame.snakeY(999) == -999
+				&& frame.getPowerUpsAmount() == 1000 && frame.powerUpX(999) == -999 && frame.powerUpY(999) == 999);
+	}
+
+	@Test
+	void copyTest() {
+		FrameSnapshot frame = new FrameSnapshot();
+		frame.setFrameNumber(7);
+		frame.setSnakeColor(Color.RED);
+		frame.addSnakeBlock(1, 2);
+		frame.addPowerUp(PowerUpTypesView.TAILCUTTER, 3, 4);
+		FrameSnapshot copy = new FrameSnapshot();
+		copy.addSnakeBlock(9, 9);
+		copy.copyFrom(frame);
+		assertTrue(copy.getFrameNumber() == 7 && copy.getSnakeColor() == Color.RED
+				&& copy.getSnakeLength() == 1 && copy.snakeX(0) == 1 && copy.snakeY(0) == 2
+				&& copy.containsPowerUp(PowerUpTypesView.TAILCUTTER, 3, 4)
+				&& !copy.containsPowerUp(PowerUpTypesView.APPLE, 3, 4));
+	}
+
+	@Test
+	void containsManyPowerUpsTest() {
+		FrameSnapshot frame = new FrameSnapshot();
+		for(int i = 0; i < 1000; i++) {
+			frame.addPowerUp(i % 2 == 0 ? PowerUpTypesView.APPLE : PowerUpTypesView.TAILCUTTER, i * 10, -i);
+		}
+		for(int i = 0; i < 1000; i++) {
+			PowerUpTypesView type = i % 2 == 0 ? PowerUpTypesView.APPLE : PowerUpTypesView.TAILCUTTER;
+			PowerUpTypesView other = i % 2 == 0 ? PowerUpTypesView.TAILCUTTER : PowerUpTypesView.APPLE;
+			assertTrue(frame.containsPowerUp(type, i * 10, -i) && !frame.containsPowerUp(other, i * 10, -i)
+					&& !frame.containsPowerUp(type, i * 10 + 1, -i));
+		}
+		frame.clearPowerUps();
+		assertFalse(frame.containsPowerUp(PowerUpTypesView.APPLE, 0, 0));
+	}
+
+	@Test
+	void clearTest() {
+		FrameSnapshot frame = new FrameSnapshot();
+		frame.addSnakeBlock(1, 2);
+		frame.addPowerUp(PowerUpTypesView.APPLE, 3, 4);
+		frame.clear();
+		assertTrue(frame.getSnakeLength() == 0 && frame.getPowerUpsAmount() == 0);
+	}
+
+	@Test
+	void nullPowerUpTypeTest() {
+		assertThrows(NullPointerException.class, () -> new FrameSnapshot().addPowerUp(null, 0, 0));
+	}
+}
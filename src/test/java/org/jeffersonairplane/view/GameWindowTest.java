@@ -0,0 +1,254 @@
+package org.jeffersonairplane.view;
+
+import org.jeffersonairplane.GameConfig;
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameWindowTest {
+
+	/**
+	 * Records repaint requests instead of passing them to repaint manager.
+	 */
+	private static class RecordingGameWindow extends GameWindow {
+		private final List<Rectangle> requests = new ArrayList<>();
+
+		RecordingGameWindow() {
+			super(new RectangleDimension(100, 100), 10, 10, Color.WHITE, Color.GREEN,
+					Color.RED, new Font(Font.SANS_SERIF, Font.BOLD, 12), GameConfig.getDefault());
+		}
+
+		@Override
+		public void repaint(long time, int x, int y, int width, int height) {
+			if(requests != null) requests.add(new Rectangle(x, y, width, height));
+		}
+	}
+
+	private GameWindow createWindow() {
+		GameWindow window = new GameWindow(new RectangleDimension(100, 100), 10, 10, Color.WHITE, Color.GREEN,
+				Color.RED, new Font(Font.SANS_SERIF, Font.BOLD, 12), GameConfig.getDefault());
+		window.setForeground(Color.BLACK);
+		return window;
+	}
+
+	/**
+	 * Fills writable frame with snake blocks in the first row and power ups.
+	 */
+	private static void fillFrame(GameWindow window, int[] snakeXs, Object... powerUps) {
+		FrameSnapshot frame = window.getWritableFrame();
+		frame.clear();
+		for(int x: snakeXs) {
+			frame.addSnakeBlock(x, 0);
+		}
+		for(int i = 0; i < powerUps.length; i += 2) {
+			frame.addPowerUp((PowerUpTypesView) powerUps[i], (Integer) powerUps[i + 1], 0);
+		}
+	}
+
+	private static int[] xs(int... xs) {
+		return xs;
+	}
+
+	private static Rectangle block(int x) {
+		return new Rectangle(x, 0, 10, 10);
+	}
+
+	private static void paint(GameWindow window, BufferedImage image, Rectangle clip) {
+		Graphics2D graphics = image.createGraphics();
+		if(clip != null) graphics.setClip(clip);
+		window.paintComponent(graphics);
+		graphics.dispose();
+	}
+
+	@Test
+	void boardLayerReusedTest() {
+		GameWindow window = createWindow();
+		assertSame(window.boardLayer(), window.boardLayer());
+	}
+
+	@Test
+	void boardLayerRebuiltTest() {
+		GameWindow window = createWindow();
+		BufferedImage first = window.boardLayer();
+		window.setBlockDimension(5, 5);
+		BufferedImage second = window.boardLayer();
+		window.setBackground(Color.BLUE);
+		BufferedImage third = window.boardLayer();
+		window.setForeground(Color.GRAY);
+		BufferedImage fourth = window.boardLayer();
+		assertTrue(first != second && second != third && third != fourth);
+	}
+
+	@Test
+	void boardLayerContentTest() {
+		GameWindow window = createWindow();
+		BufferedImage layer = window.boardLayer();
+		assertTrue(layer.getRGB(5, 5) == Color.WHITE.getRGB()
+				&& layer.getRGB(10, 5) == Color.BLACK.getRGB()
+				&& layer.getRGB(5, 20) == Color.BLACK.getRGB());
+	}
+
+	@Test
+	void paintTest() {
+		GameWindow window = createWindow();
+		FrameSnapshot frame = window.getWritableFrame();
+		frame.addSnakeBlock(21, 21);
+		window.repaintChangedCells();
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		paint(window, image, null);
+		assertTrue(image.getRGB(5, 5) == Color.WHITE.getRGB()
+				&& image.getRGB(0, 5) == Color.BLACK.getRGB()
+				&& image.getRGB(25, 25) == Color.GREEN.getRGB());
+	}
+
+	@Test
+	void unpublishedFrameNotPaintedTest() {
+		GameWindow window = createWindow();
+		fillFrame(window, xs(20));
+		window.repaintChangedCells();
+		fillFrame(window, xs(50));
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		paint(window, image, null);
+		assertTrue(image.getRGB(25, 5) == Color.GREEN.getRGB() && image.getRGB(55, 5) == Color.WHITE.getRGB());
+	}
+
+	@Test
+	void snakeStepRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		fillFrame(window, xs(0, 10, 20));
+		window.repaintChangedCells();
+		window.requests.clear();
+		fillFrame(window, xs(10, 20, 30));
+		window.repaintChangedCells();
+		assertEquals(Set.of(block(0), block(30)), new HashSet<>(window.requests));
+	}
+
+	@Test
+	void unchangedFrameRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		fillFrame(window, xs(0, 10, 20), PowerUpTypesView.APPLE, 50);
+		window.repaintChangedCells();
+		window.requests.clear();
+		fillFrame(window, xs(0, 10, 20), PowerUpTypesView.APPLE, 50);
+		window.repaintChangedCells();
+		assertTrue(window.requests.isEmpty());
+	}
+
+	@Test
+	void tailCutRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		fillFrame(window, xs(0, 10, 20, 30, 40));
+		window.repaintChangedCells();
+		window.requests.clear();
+		fillFrame(window, xs(30, 40, 50));
+		window.repaintChangedCells();
+		assertEquals(Set.of(block(0), block(10), block(20), block(50)), new HashSet<>(window.requests));
+	}
+
+	@Test
+	void snakeColorChangeRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		fillFrame(window, xs(0, 10, 20));
+		window.repaintChangedCells();
+		window.requests.clear();
+		window.getSnakeAnimationColorQueue().offer(Color.YELLOW);
+		fillFrame(window, xs(0, 10, 20));
+		window.repaintChangedCells();
+		assertEquals(Set.of(block(0), block(10), block(20)), new HashSet<>(window.requests));
+	}
+
+	@Test
+	void powerUpsRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		fillFrame(window, xs(), PowerUpTypesView.APPLE, 50, PowerUpTypesView.APPLE, 60);
+		window.repaintChangedCells();
+		window.requests.clear();
+		fillFrame(window, xs(), PowerUpTypesView.APPLE, 60, PowerUpTypesView.TAILCUTTER, 70);
+		window.repaintChangedCells();
+		assertEquals(Set.of(block(50), block(70)), new HashSet<>(window.requests));
+	}
+
+	@Test
+	void clipTest() {
+		GameWindow window = createWindow();
+		fillFrame(window, xs(0, 50));
+		window.repaintChangedCells();
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		paint(window, image, new Rectangle(0, 0, 20, 20));
+		assertTrue(image.getRGB(5, 5) == Color.GREEN.getRGB() && image.getRGB(55, 5) == Color.BLACK.getRGB());
+	}
+
+	@Test
+	void resetStateTest() {
+		GameWindow window = createWindow();
+		fillFrame(window, xs(20), PowerUpTypesView.APPLE, 50);
+		window.repaintChangedCells();
+		window.resetState();
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		paint(window, image, null);
+		assertTrue(image.getRGB(25, 5) == Color.WHITE.getRGB() && image.getRGB(55, 5) == Color.WHITE.getRGB());
+	}
+
+	@Test
+	void activeRenderingRepaintTest() {
+		RecordingGameWindow window = new RecordingGameWindow();
+		window.enableActiveRendering(2);
+		window.requests.clear();
+		fillFrame(window, xs(0, 10, 20));
+		window.repaintChangedCells();
+		assertTrue(window.isActiveRendering() && window.getComponentCount() == 1
+				&& window.getComponent(0) instanceof ActiveRenderingCanvas && window.requests.isEmpty());
+	}
+
+	@Test
+	void renderFrameMessageTest() {
+		GameWindow window = createWindow();
+		window.enableActiveRendering(2);
+		window.setSize(100, 100);
+		window.showInGameMessage(true, "WWWW", new Font(Font.SANS_SERIF, Font.BOLD, 20), Color.RED);
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		window.renderFrame(graphics);
+		graphics.dispose();
+		boolean messageDrawn = false;
+		for(int x = 0; x < 100 && !messageDrawn; x++) {
+			for(int y = 0; y < 100 && !messageDrawn; y++) {
+				messageDrawn = image.getRGB(x, y) == Color.RED.getRGB();
+			}
+		}
+		assertTrue(messageDrawn && image.getRGB(5, 5) == Color.WHITE.getRGB());
+	}
+
+	@Test
+	void renderFrameHiddenMessageTest() {
+		GameWindow window = createWindow();
+		window.enableActiveRendering(2);
+		window.setSize(100, 100);
+		window.showInGameMessage(true, "WWWW", new Font(Font.SANS_SERIF, Font.BOLD, 20), Color.RED);
+		window.showInGameMessage(false, "WWWW", new Font(Font.SANS_SERIF, Font.BOLD, 20), Color.RED);
+		BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		window.renderFrame(graphics);
+		graphics.dispose();
+		for(int x = 0; x < 100; x++) {
+			for(int y = 0; y < 100; y++) {
+				assertNotEquals(Color.RED.getRGB(), image.getRGB(x, y));
+			}
+		}
+	}
+
+	@Test
+	void blockEdgesTest() {
+		GameWindow window = createWindow();
+		window.setBlockDimension(7, 10);
+		int[] left = window.getBlockLeftEdges();
+		int[] top = window.getBlockTopEdges();
+		assertTrue(left.length == 9 && left[0] == -13 && left[1] == 1 && left[7] == 85 && left[8] == 99
+				&& top.length == 12 && top[1] == 0 && top[10] == 90 && top[11] == 100);
+	}
+}
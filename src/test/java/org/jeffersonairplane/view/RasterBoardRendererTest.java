@@ -0,0 +1,89 @@
+package org.jeffersonairplane.view;
+
+import org.jeffersonairplane.GameConfig;
+import org.jeffersonairplane.model.*;
+import org.jeffersonairplane.viewmodel.Direction;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RasterBoardRendererTest {
+
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	/**
+	 * Writes model state to writable frame as view model does.
+	 */
+	private static void fillFrame(GameWindow window, GameModel model) {
+		FrameSnapshot frame = window.getWritableFrame();
+		frame.clear();
+		frame.setFrameNumber(model.getFramesCounter());
+		int[] left = window.getBlockLeftEdges();
+		int[] top = window.getBlockTopEdges();
+		Snake snake = model.getSnake();
+		for(int i = 0; i < snake.size(); i++) {
+			frame.addSnakeBlock(left[CellId.x(snake.cellAt(i))], top[CellId.y(snake.cellAt(i))]);
+		}
+		for(PowerUp powerUp: model.getPowerUps()) {
+			PowerUpTypesView type = powerUp instanceof Apple ? PowerUpTypesView.APPLE : PowerUpTypesView.TAILCUTTER;
+			frame.addPowerUp(type, left[powerUp.getPoint().xCoord()], top[powerUp.getPoint().yCoord()]);
+		}
+	}
+
+	private static int[] paint(GameWindow window) {
+		BufferedImage image = new BufferedImage(window.getWidth(), window.getHeight(), BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		window.paintComponent(graphics);
+		graphics.dispose();
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	private static void newGame(GameModel model, int blocks, SplittableRandom random) {
+		model.resetState();
+		model.setRandom(random.split());
+		model.getSnakeManager().fillSnake(5, new Coordinate(blocks / 2, blocks / 2), Direction.RIGHT, blocks, blocks);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {15, 20, 25, 60})
+	void identicalToBlockDrawingTest(int blocks) {
+		GameConfig config = GameConfig.getDefault();
+		PowerUpTypesView.APPLE.setColor(new Color(config.getAppleColor()));
+		PowerUpTypesView.TAILCUTTER.setColor(new Color(config.getTailCutterColor()));
+		List<GameWindow> windows = List.of(new GameWindow(config), new GameWindow(config));
+		windows.get(1).enableRasterRendering();
+		for(GameWindow window: windows) {
+			window.setSize(config.getGameWindowWidth(), config.getGameWindowHeight());
+			window.setBlockDimension(blocks, blocks);
+		}
+
+		GameModelImpl model = new GameModelImpl(config);
+		model.setDimension(new FieldDimension(blocks, blocks));
+		model.initializeSnakeManager();
+		model.initializePowerUpManager();
+		model.getSnakeManager().setSnakeMovementRhythm(1);
+		SplittableRandom random = new SplittableRandom(blocks);
+		newGame(model, blocks, random);
+
+		int differentFrames = 0;
+		for(int frame = 0; frame < 1500; frame++) {
+			if(random.nextInt(6) == 0) model.changeSnakeDirection(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+			if(model.oneFrameGameAction()) newGame(model, blocks, random);
+			Color animation = random.nextInt(20) == 0 ? new Color(config.getSnakeEatAppleColor()) : null;
+			for(GameWindow window: windows) {
+				if(animation != null) window.getSnakeAnimationColorQueue().offer(animation);
+				fillFrame(window, model);
+				window.repaintChangedCells();
+			}
+			if(!Arrays.equals(paint(windows.get(0)), paint(windows.get(1)))) ++differentFrames;
+		}
+		assertEquals(0, differentFrames);
+	}
+}
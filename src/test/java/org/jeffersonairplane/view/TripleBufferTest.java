@@ -0,0 +1,76 @@
+package org.jeffersonairplane.view;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+
+	@Test
+	void publishedValueReadTest() {
+		TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+		buffer.writable().set(1);
+		buffer.publish();
+		assertEquals(1, buffer.readable().get());
+	}
+
+	@Test
+	void unpublishedValueNotReadTest() {
+		TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+		buffer.writable().set(1);
+		buffer.publish();
+		AtomicLong read = buffer.readable();
+		buffer.writable().set(2);
+		assertTrue(buffer.readable() == read && read.get() == 1);
+	}
+
+	@Test
+	void latestValueReadTest() {
+		TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+		for(int i = 1; i <= 5; i++) {
+			buffer.writable().set(i);
+			buffer.publish();
+		}
+		assertEquals(5, buffer.readable().get());
+	}
+
+	@Test
+	void writerAndReaderValuesDifferTest() {
+		TripleBuffer<AtomicLong> buffer = new TripleBuffer<>(AtomicLong::new);
+		for(int i = 0; i < 10; i++) {
+			buffer.publish();
+			AtomicLong read = buffer.readable();
+			assertNotSame(read, buffer.writable());
+			if(i % 3 == 0) buffer.publish();
+		}
+	}
+
+	@Test
+	void concurrentFramesConsistentTest() throws InterruptedException {
+		TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[64]);
+		long frames = 200_000;
+		Thread writer = new Thread(() -> {
+			for(long frame = 1; frame <= frames; frame++) {
+				long[] values = buffer.writable();
+				Arrays.fill(values, frame);
+				buffer.publish();
+			}
+		});
+		writer.start();
+		long last = 0;
+		boolean consistent = true;
+		while(writer.isAlive() || last < frames) {
+			long[] values = buffer.readable();
+			for(long value: values) {
+				consistent &= value == values[0];
+			}
+			consistent &= values[0] >= last;
+			last = values[0];
+		}
+		writer.join();
+		assertTrue(consistent && last == frames);
+	}
+}